@@ -2,23 +2,29 @@ import greenfoot.*;
 
 public class Arrow extends Actor
 {
+    // The arrow is drawn between these shaft lengths, one pixel apart
+    private static final int MIN_LENGTH = 20;
+    private static final int MAX_LENGTH = 80;
+    
+    // Every arrow length, [0 = as drawn, 1 = mirrored][length - MIN_LENGTH], shared by all arrows
+    private static final GreenfootImage[][] lengthImages = new GreenfootImage[2][MAX_LENGTH - MIN_LENGTH + 1];
+    
+    // Shown while the arrow is hidden
+    private static GreenfootImage transparent;
+    
     private int power = 0;
     private boolean visible = false;
+    private int shownLength = -1;
     
     public Arrow()
     {
-        // Draw the arrow shaft as a white rectangle
-        GreenfootImage arrowImage = new GreenfootImage(50, 10);
-        arrowImage.setColor(Color.WHITE);
-        arrowImage.fillRect(0, 4, 40, 2);
-        
-        // Draw the arrowhead as a white triangle
-        int[] xPoints = {40, 50, 40};
-        int[] yPoints = {0, 5, 10};
-        arrowImage.fillPolygon(xPoints, yPoints, 3);
-        
-        setImage(arrowImage);
         setVisible(false);
+        
+        // Draw every length up front so aiming never draws anything
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++)
+        {
+            lengthImage(length, false);
+        }
     }
     
     public void setPower(int power)
@@ -26,19 +32,13 @@ public class Arrow extends Actor
         this.power = power;
         
         // Scale arrow length between 20 and 80 pixels based on power value
-        int length = Math.max(20, Math.min(80, power / 3));
-        
-        GreenfootImage arrowImage = new GreenfootImage(length + 10, 10);
-        arrowImage.setColor(Color.WHITE);
-        arrowImage.fillRect(0, 4, length, 2);
-        
-        // Draw the arrowhead at the end of the shaft
-        int[] xPoints = {10, 0, 10};
-        int[] yPoints = {0, 5, 10};
-        arrowImage.fillPolygon(xPoints, yPoints, 3);
-        arrowImage.fillRect(10, 4, length, 2);
-    
-        setImage(arrowImage);
+        int length = Math.max(MIN_LENGTH, Math.min(MAX_LENGTH, power / 3));
+        if (length == shownLength)
+        {
+            return;
+        }
+        shownLength = length;
+        setImage(lengthImage(length, facingLeft));
     }
     
     public void setVisible(boolean visible)
@@ -47,9 +47,13 @@ public class Arrow extends Actor
         // Hide the arrow by setting a transparent image
         if (!visible)
         {
-            GreenfootImage transparent = new GreenfootImage(1, 1);
-            transparent.setTransparency(0);
+            if (transparent == null)
+            {
+                transparent = ImageMemoryTracker.track("Arrow", new GreenfootImage(1, 1));
+                transparent.setTransparency(0);
+            }
             setImage(transparent);
+            shownLength = -1;
         }
     }
     
@@ -74,13 +78,40 @@ public class Arrow extends Actor
     
     private void updateDirection()
     {
-        // Mirror the arrow image when direction changes
+        // Swap to the mirrored arrow when direction changes
         if (facingLeft != lastFacingLeft)
         {
-            GreenfootImage img = getImage();
-            img.mirrorHorizontally();
-            setImage(img);
+            if (shownLength >= 0)
+            {
+                setImage(lengthImage(shownLength, facingLeft));
+            }
             lastFacingLeft = facingLeft;
         }
     }
+    
+    // Returns the shared arrow image for a length, drawing it if it is not in the table yet
+    private static GreenfootImage lengthImage(int length, boolean mirrored)
+    {
+        int facing = mirrored ? 1 : 0;
+        GreenfootImage arrowImage = lengthImages[facing][length - MIN_LENGTH];
+        if (arrowImage == null)
+        {
+            arrowImage = ImageMemoryTracker.track("Arrow", new GreenfootImage(length + 10, 10));
+            arrowImage.setColor(Color.WHITE);
+            arrowImage.fillRect(0, 4, length, 2);
+            
+            // Draw the arrowhead at the end of the shaft
+            int[] xPoints = {10, 0, 10};
+            int[] yPoints = {0, 5, 10};
+            arrowImage.fillPolygon(xPoints, yPoints, 3);
+            arrowImage.fillRect(10, 4, length, 2);
+            
+            if (mirrored)
+            {
+                arrowImage.mirrorHorizontally();
+            }
+            lengthImages[facing][length - MIN_LENGTH] = arrowImage;
+        }
+        return arrowImage;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lookup for the pre-scaled images written by tools/AssetBaker.java.
+ *
+ * Each entry maps a source image and display size to either its own baked file
+ * or a region of the sprite atlas. Without a manifest every lookup misses and
+ * ImageCache falls back to decoding and scaling the source image.
+ */
+public class AssetManifest {
+    public static final String BAKED_FOLDER = "baked/";
+    private static final String MANIFEST = "images/baked/manifest.txt";
+
+    private static Map<String, Entry> entries;
+
+    /**
+     * A baked image: a whole file, or the region at (x, y) of an atlas file.
+     */
+    public static class Entry {
+        public final String file;
+        public final boolean inAtlas;
+        public final int x, y;
+
+        Entry(String file, boolean inAtlas, int x, int y) {
+            this.file = file;
+            this.inAtlas = inAtlas;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private AssetManifest() {
+    }
+
+    /**
+     * Returns the baked image for this source and size, or null if it was not baked.
+     *
+     * @param name Image file name inside the images folder
+     */
+    public static synchronized Entry lookup(String name, int width, int height) {
+        if (entries == null) entries = load();
+        return entries.get(name + "@" + width + "x" + height);
+    }
+
+    private static Map<String, Entry> load() {
+        Map<String, Entry> map = new HashMap<String, Entry>();
+        InputStream in = AssetManifest.class.getClassLoader().getResourceAsStream(MANIFEST);
+        if (in == null) return map;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, "UTF-8"))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+
+                int eq = line.indexOf('=');
+                String key = line.substring(0, eq);
+                String value = line.substring(eq + 1);
+                int colon = value.indexOf(':');
+                if (colon < 0) {
+                    map.put(key, new Entry(BAKED_FOLDER + value, false, 0, 0));
+                } else {
+                    String[] xy = value.substring(colon + 1).split(",");
+                    map.put(key, new Entry(BAKED_FOLDER + value.substring(0, colon), true,
+                        Integer.parseInt(xy[0]), Integer.parseInt(xy[1])));
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Could not read asset manifest: " + e.getMessage());
+        }
+        return map;
+    }
+}
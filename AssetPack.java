@@ -0,0 +1,222 @@
+import greenfoot.*;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.InvalidMarkException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import javax.imageio.ImageIO;
+
+/**
+ * Read-only view of assets.pack, the single-file asset bundle written by
+ * tools/AssetPacker.java.
+ *
+ * The whole file is memory-mapped once. Looking up an asset slices the mapped
+ * buffer without copying, and images are only decoded when asked for. The game
+ * reads loose files first and only comes here for an asset that has none, as in
+ * an exported build that ships just the pack: timed from a cold start with
+ * AssetPacker --compare, decoding from the pack was no faster than from the
+ * loose files. When the pack is missing every lookup misses.
+ *
+ * The pack is a build output and can fall behind the loose files. Each entry
+ * records the size and modification time of the file it was packed from, and
+ * the first lookup of an entry compares them with the loose file next to the
+ * pack. If they differ the entry is stale and the lookup misses, so the newer
+ * loose file is used. An exported build that ships only the pack has no loose
+ * files to compare with and trusts every entry.
+ *
+ * Layout (big-endian): the magic "RSNPACK2", an int entry count, then per entry
+ * a UTF-8 name (short length + bytes), a long payload offset, an int payload
+ * length and the long modification time of the source file, followed by the
+ * raw payloads.
+ */
+public class AssetPack {
+    public static final String FILE_NAME = "assets.pack";
+    private static final String MAGIC = "RSNPACK2";
+
+    private static boolean opened = false;
+    private static MappedByteBuffer data;
+    private static File folder;
+    private static final Map<String, Entry> index = new HashMap<String, Entry>();
+
+    private static class Entry {
+        long offset;
+        int length;
+        long modified;
+
+        // Set once the entry has been compared with its loose file
+        boolean checked;
+    }
+
+    private AssetPack() {
+    }
+
+    /**
+     * Returns true if the pack holds this asset.
+     *
+     * @param path Asset path inside the project, such as "images/bg.png"
+     */
+    public static synchronized boolean contains(String path) {
+        return entry(path) != null;
+    }
+
+    /**
+     * Returns the asset's bytes as a read-only slice of the mapped pack, or null.
+     */
+    public static synchronized ByteBuffer slice(String path) {
+        Entry entry = entry(path);
+        if (entry == null) return null;
+
+        ByteBuffer view = data.duplicate();
+        view.position((int) entry.offset);
+        view.limit((int) (entry.offset + entry.length));
+        return view.slice().asReadOnlyBuffer();
+    }
+
+    // Looks up an entry, dropping it the first time if its loose file has changed since packing
+    private static Entry entry(String path) {
+        open();
+        Entry entry = index.get(path);
+        if (entry == null || entry.checked) return entry;
+        entry.checked = true;
+
+        File loose = new File(folder, path);
+        if (loose.isFile() && (loose.length() != entry.length || loose.lastModified() != entry.modified)) {
+            System.out.println("Ignoring stale " + path + " in " + FILE_NAME + "; rebuild it with tools/AssetPacker.java");
+            index.remove(path);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Decodes an image from the pack.
+     *
+     * @param path Asset path inside the project, such as "images/bg.png"
+     * @return The decoded image, or null if the pack does not hold it
+     */
+    public static GreenfootImage decode(String path) throws java.io.IOException {
+        ByteBuffer bytes = slice(path);
+        if (bytes == null) return null;
+
+        BufferedImage decoded = ImageIO.read(new BufferInputStream(bytes));
+        if (decoded == null) throw new IllegalArgumentException("Cannot decode " + path);
+
+        GreenfootImage img = new GreenfootImage(decoded.getWidth(), decoded.getHeight());
+        Graphics2D g = img.getAwtImage().createGraphics();
+        g.drawImage(decoded, 0, 0, null);
+        g.dispose();
+        return img;
+    }
+
+    /**
+     * Opens a stream over an asset in the pack, or returns null if it is not there.
+     */
+    public static InputStream stream(String path) {
+        ByteBuffer bytes = slice(path);
+        return bytes == null ? null : new BufferInputStream(bytes);
+    }
+
+    // Maps the pack and reads its index the first time it is needed
+    private static void open() {
+        if (opened) return;
+        opened = true;
+
+        File file = locate();
+        if (file == null || !file.isFile()) return;
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            byte[] magic = new byte[MAGIC.length()];
+            map.get(magic);
+            if (!MAGIC.equals(new String(magic, StandardCharsets.US_ASCII))) {
+                System.out.println("Ignoring " + FILE_NAME + ": not an asset pack, or built by an older AssetPacker");
+                return;
+            }
+
+            int count = map.getInt();
+            for (int i = 0; i < count; i++) {
+                byte[] name = new byte[map.getShort()];
+                map.get(name);
+                Entry entry = new Entry();
+                entry.offset = map.getLong();
+                entry.length = map.getInt();
+                entry.modified = map.getLong();
+                index.put(new String(name, StandardCharsets.UTF_8), entry);
+            }
+            data = map;
+            folder = file.getAbsoluteFile().getParentFile();
+        } catch (Exception e) {
+            index.clear();
+            System.out.println("Could not open " + FILE_NAME + ": " + e.getMessage());
+        }
+    }
+
+    private static File locate() {
+        try {
+            URL url = AssetPack.class.getClassLoader().getResource(FILE_NAME);
+            if (url != null && "file".equals(url.getProtocol())) return new File(url.toURI());
+        } catch (Exception e) {
+            // Fall back to the working directory
+        }
+        return new File(FILE_NAME);
+    }
+
+    /**
+     * InputStream over a ByteBuffer, with mark/reset so audio and image readers
+     * can sniff the header.
+     */
+    private static class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) return -1;
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        public int available() {
+            return buffer.remaining();
+        }
+
+        public boolean markSupported() {
+            return true;
+        }
+
+        public synchronized void mark(int limit) {
+            buffer.mark();
+        }
+
+        public synchronized void reset() throws IOException {
+            try {
+                buffer.reset();
+            } catch (InvalidMarkException e) {
+                throw new IOException("reset() without mark()");
+            }
+        }
+    }
+}
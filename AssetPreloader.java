@@ -0,0 +1,226 @@
+import greenfoot.*;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes the game's images and sounds on a small worker pool while the
+ * MenuWorld splash screens are showing.
+ *
+ * Images land in the ImageCache at the exact sizes the worlds ask for and
+ * sounds are loaded into the SoundBank, so the first frame of every sport
+ * world finds its assets ready.
+ */
+public class AssetPreloader {
+    private static final int WORKERS = Math.max(1, Math.min(3, Runtime.getRuntime().availableProcessors() - 1));
+
+    // Display sizes requested by the worlds and actors: path, width, height, mirrored
+    private static final Object[][] VARIANTS = {
+        // Menu
+        {"blackscreen.png", 1100, 600, false},
+        {"production_splash.png", 1100, 600, false},
+        {"project_splash.png", 1100, 600, false},
+        {"logo_3.png", 350, 230, false},
+        {"pick_a_sport.png", 300, 35, false},
+        {"pick_a_difficulty.png", 300, 30, false},
+        {"note.png", 1000, 330, false},
+        {"bg.png", 1100, 600, false},
+        {"bg2.png", 1100, 600, false},
+        {"badminton_bg_normal.png", 1100, 600, false},
+        // Basketball
+        {"basketball_instructions.png", 1100, 600, false},
+        {"basketball.png", 42, 42, false},
+        {"basket.png", 80, 60, false},
+        {"backboard.png", 15, 140, false},
+        {"boundary.png", 40, 85, false},
+        {"hand.png", 70, 70, false},
+        // Volleyball
+        {"volleyball_instructions.png", 1100, 602, false},
+        {"volleyball.png", 60, 60, false},
+        {"volleyball_net.png", 20, 315, false},
+        {"volleyball-receive.png", 65, 65, false},
+        {"volleyball-receive.png", 65, 65, true},
+        {"volleyball-spike.png", 65, 65, false},
+        {"volleyball-spike.png", 65, 65, true},
+        // Badminton
+        {"badminton_instructions.png", 1100, 600, false},
+        {"badminton_bg_celebration.png", 1100, 600, false},
+        {"badminton_net.png", 20, 280, false},
+        {"shuttlecock.png", 35, 35, false},
+        {"1p_racket.png", 80, 120, false},
+        {"1p_racket-forward.png", 80, 120, false},
+        {"2p_racket.png", 80, 120, true},
+        {"2p_racket-forward.png", 80, 120, true},
+    };
+
+    // Menu buttons, preloaded at both their normal and hover sizes
+    private static final Object[][] BUTTONS = {
+        {"1p_menu.png", 130, 110},
+        {"2p_menu.png", 140, 110},
+        {"note_button.png", 50, 50},
+        {"basketball_menuLogo.png", 120, 120},
+        {"volleyball_menuLogo.png", 120, 120},
+        {"badminton_menuLogo.png", 120, 120},
+        {"easy.png", 110, 35},
+        {"medium.png", 150, 35},
+        {"hard.png", 110, 35},
+        {"expert.png", 130, 35},
+        {"impossible.png", 210, 35},
+    };
+
+    private static final AtomicInteger completed = new AtomicInteger();
+    private static int total = 0;
+    private static ExecutorService pool;
+    private static long startNanos = 0;
+    private static long finishNanos = 0;
+
+    private AssetPreloader() {
+    }
+
+    /**
+     * Starts decoding every asset in the background. Only the first call has any effect.
+     */
+    public static synchronized void start() {
+        if (pool != null) return;
+        startNanos = System.nanoTime();
+
+        List<Runnable> tasks = new ArrayList<Runnable>();
+        for (final Object[] v : VARIANTS) {
+            tasks.add(new Runnable() {
+                public void run() {
+                    ImageCache.get((String) v[0], (Integer) v[1], (Integer) v[2], (Boolean) v[3]);
+                }
+            });
+        }
+        for (final Object[] b : BUTTONS) {
+            tasks.add(new Runnable() {
+                public void run() {
+                    int w = (Integer) b[1];
+                    int h = (Integer) b[2];
+                    ImageCache.get((String) b[0], w, h);
+                    ImageCache.get((String) b[0], (int)(w * ClickableImage.HOVER_SCALE), (int)(h * ClickableImage.HOVER_SCALE));
+                }
+            });
+        }
+        for (final String name : listSounds()) {
+            // Music is streamed, never loaded whole
+            if (name.equals(MusicPlayer.MENU_TRACK)) continue;
+            tasks.add(new Runnable() {
+                public void run() {
+                    SoundBank.preload(name);
+                }
+            });
+        }
+
+        total = tasks.size();
+        pool = Executors.newFixedThreadPool(WORKERS, new ThreadFactory() {
+            private int count = 0;
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "asset-preloader-" + (++count));
+                t.setDaemon(true);
+                t.setPriority(Thread.NORM_PRIORITY - 1);
+                return t;
+            }
+        });
+        for (final Runnable task : tasks) {
+            pool.execute(new Runnable() {
+                public void run() {
+                    try {
+                        task.run();
+                    } catch (Throwable t) {
+                        System.out.println("Could not preload asset: " + t.getMessage());
+                    }
+                    finishTask();
+                }
+            });
+        }
+        pool.shutdown();
+    }
+
+    private static synchronized void finishTask() {
+        if (completed.incrementAndGet() == total) {
+            finishNanos = System.nanoTime();
+            StartupTelemetry.mark("preload finished");
+            System.out.println("Preloaded " + total + " assets in " + ((finishNanos - startNanos) / 1000000)
+                + " ms on " + WORKERS + " threads (" + ImageCache.describe() + ")");
+        }
+    }
+
+    // Fraction of preload tasks finished, between 0 and 1
+    public static synchronized double getProgress() {
+        if (pool == null) return 0;
+        if (total == 0) return 1;
+        return completed.get() / (double) total;
+    }
+
+    public static synchronized boolean isDone() {
+        return pool != null && completed.get() >= total;
+    }
+
+    /**
+     * Records in the startup report how long it took from world construction
+     * until the world's first frame, usually its instructions screen. Call from
+     * the world's first act(); only the first world of each class is recorded.
+     *
+     * @param worldName Name of the world shown in the report
+     * @param worldStartNanos System.nanoTime() when the world was constructed
+     */
+    public static void reportFirstFrame(String worldName, long worldStartNanos) {
+        StartupTelemetry.recordSpan(worldName + " first frame", worldStartNanos);
+    }
+
+    /**
+     * Records in the startup report how long the world took to set up its game
+     * once the instructions screen ended, which is the stall before the first
+     * playable frame. The time the player spends on the instructions screen is
+     * not included. Only the first world of each class is recorded.
+     *
+     * @param worldName Name of the world shown in the report
+     * @param setupStartNanos System.nanoTime() when the instructions screen ended
+     */
+    public static void reportFirstPlayableFrame(String worldName, long setupStartNanos) {
+        StartupTelemetry.recordSpan(worldName + " first game frame", setupStartNanos);
+        StartupTelemetry.mark(StartupTelemetry.FIRST_GAME_FRAME);
+    }
+
+    // Sound file names from the sounds folder, or from soundindex.list when exported
+    private static List<String> listSounds() {
+        List<String> names = new ArrayList<String>();
+        ClassLoader loader = AssetPreloader.class.getClassLoader();
+        try {
+            URL dir = loader.getResource("sounds");
+            File folder = dir != null && "file".equals(dir.getProtocol()) ? new File(dir.toURI()) : new File("sounds");
+            File[] files = folder.listFiles();
+            if (files != null) {
+                for (File f : files) {
+                    if (f.getName().endsWith(".wav")) names.add(f.getName());
+                }
+            }
+        } catch (Exception e) {
+            // Fall through to the sound index
+        }
+
+        if (names.isEmpty()) {
+            InputStream in = loader.getResourceAsStream("soundindex.list");
+            if (in != null) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, "UTF-8"))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.trim().isEmpty()) names.add(line.trim());
+                    }
+                } catch (Exception e) {
+                    System.out.println("Could not read sound index: " + e.getMessage());
+                }
+            }
+        }
+        return names;
+    }
+}
@@ -9,9 +9,7 @@ public class Backboard extends Actor
     
     public Backboard()
     {
-        GreenfootImage backboardImage = new GreenfootImage("images/backboard.png");
-        backboardImage.scale(WIDTH, HEIGHT);
-        setImage(backboardImage);
+        setImage(ImageCache.get("images/backboard.png", WIDTH, HEIGHT));
     }
     
     public void act()
@@ -0,0 +1,156 @@
+import greenfoot.*;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Switches a world between a few prepared backgrounds, such as the normal
+ * court and the celebration court shown after a point.
+ *
+ * Every variant is looked up in the ImageCache once, when it is added, and
+ * switching just hands the world another reference, so a swap never decodes,
+ * scales or copies anything. Cross-fades step through blended frames that are
+ * kept in the ImageCache too, so every world shares them and they are evicted
+ * or released like any other image. One set of frames serves both directions,
+ * and a fade turned around halfway runs back from the frame it had reached.
+ *
+ * The backgrounds are shared images, so nothing may draw on the world
+ * background while a manager is in charge of it.
+ */
+public class BackgroundManager {
+    private final World world;
+    private final int width, height;
+    private final Map<String, String> paths = new HashMap<String, String>();
+    private final Map<String, GreenfootImage> variants = new HashMap<String, GreenfootImage>();
+
+    // Cache names of every fade frame this manager has used, for release()
+    private final Set<String> frameNames = new HashSet<String>();
+
+    private String current;
+
+    // Fade in progress: its frames, the step shown next, the direction through them and where it started
+    private GreenfootImage[] fadeFrames;
+    private int fadeStep;
+    private boolean fadeReversed;
+    private String fadeFrom;
+
+    /**
+     * @param world The world whose background is managed
+     * @param width The width every background is shown at
+     * @param height The height every background is shown at
+     */
+    public BackgroundManager(World world, int width, int height) {
+        this.world = world;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Prepares a background under a name. Nothing is shown until show() or fadeTo().
+     */
+    public void add(String name, String path) {
+        paths.put(name, path);
+        variants.put(name, ImageCache.get(path, width, height));
+    }
+
+    /**
+     * Builds the blended frames between two backgrounds now, so the first fade
+     * does not do it in the middle of play.
+     */
+    public void prepareFade(String from, String to, int steps) {
+        frames(from, to, steps);
+    }
+
+    /**
+     * Shows a background straight away, ending any fade.
+     */
+    public void show(String name) {
+        fadeFrames = null;
+        current = name;
+        world.setBackground(variants.get(name));
+    }
+
+    /**
+     * Fades from the current background to another over the given number of
+     * act() calls, then shows it. Asking to go back to where a running fade
+     * started turns it around from the frame it has reached.
+     */
+    public void fadeTo(String name, int steps) {
+        if (fadeFrames != null && name.equals(fadeFrom) && fadeFrames.length == steps) {
+            fadeStep = fadeFrames.length + 1 - fadeStep;
+            fadeReversed = !fadeReversed;
+            fadeFrom = current;
+            current = name;
+            return;
+        }
+        if (current == null || steps <= 0 || name.equals(current)) {
+            show(name);
+            return;
+        }
+        fadeReversed = paths.get(current).compareTo(paths.get(name)) > 0;
+        fadeFrames = frames(current, name, steps);
+        fadeStep = 0;
+        fadeFrom = current;
+        current = name;
+    }
+
+    /**
+     * Shows the next frame of a fade in progress. Call once per world act().
+     */
+    public void act() {
+        if (fadeFrames == null) return;
+        if (fadeStep < fadeFrames.length) {
+            int i = fadeReversed ? fadeFrames.length - 1 - fadeStep : fadeStep;
+            world.setBackground(fadeFrames[i]);
+            fadeStep++;
+        } else {
+            fadeFrames = null;
+            world.setBackground(variants.get(current));
+        }
+    }
+
+    // Name of the background shown, or being faded to
+    public String getCurrent() {
+        return current;
+    }
+
+    /**
+     * Lets the cache reclaim the fade frames once this world is done with them.
+     */
+    public void release() {
+        for (String name : frameNames) {
+            ImageCache.release(name, width, height);
+        }
+        frameNames.clear();
+    }
+
+    // Frames between two backgrounds, always blended from the one whose path sorts first
+    private GreenfootImage[] frames(String a, String b, int steps) {
+        String from = paths.get(a).compareTo(paths.get(b)) <= 0 ? a : b;
+        String to = from.equals(a) ? b : a;
+
+        GreenfootImage[] frames = new GreenfootImage[steps];
+        for (int i = 0; i < steps; i++) {
+            String name = "fade:" + paths.get(from) + "|" + paths.get(to) + "|" + (i + 1) + "/" + (steps + 1);
+            frameNames.add(name);
+            frames[i] = ImageCache.getMade(name, width, height);
+            if (frames[i] == null) {
+                frames[i] = ImageCache.putMade(name, blend(variants.get(from), variants.get(to), (i + 1f) / (steps + 1)));
+            }
+        }
+        return frames;
+    }
+
+    // The first image with the second laid over it at the given opacity
+    private GreenfootImage blend(GreenfootImage under, GreenfootImage over, float alpha) {
+        GreenfootImage img = ImageMemoryTracker.track("BackgroundManager", new GreenfootImage(under));
+        Graphics2D g = img.getAwtImage().createGraphics();
+        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+        g.drawImage(over.getAwtImage(), 0, 0, null);
+        g.dispose();
+        return img;
+    }
+}
@@ -2,7 +2,6 @@ import greenfoot.*;
 
 public class BadmintonNet extends Actor {
     public BadmintonNet() {
-        setImage("badminton_net.png");
-        getImage().scale(10, 200);
+        setImage(ImageCache.get("badminton_net.png", 20, 280));
     }
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 import greenfoot.*;
-public class BadmintonPlayer extends Actor {
+public class BadmintonPlayer extends PhysicsActor {
     private boolean isLeftPlayer;
     private int verticalSpeed = 0;
     private final int JUMP_STRENGTH = -25;
@@ -30,25 +30,20 @@ public class BadmintonPlayer extends Actor {
     }
     
     private void initializeImages() {
-        // Load and scale player racket images
+        // Shared pre-scaled racket images
         if (isLeftPlayer) {
-            racketNormal = new GreenfootImage("1p_racket.png");
-            racketSwing = new GreenfootImage("1p_racket-forward.png");
+            racketNormal = SpriteAtlas.get(SpriteAtlas.Pose.RACKET_1P, false);
+            racketSwing = SpriteAtlas.get(SpriteAtlas.Pose.RACKET_1P_SWING, false);
         } else {
-            racketNormal = new GreenfootImage("2p_racket.png");
-            racketSwing = new GreenfootImage("2p_racket-forward.png");
             // Flip right player to face correct direction
-            racketNormal.mirrorHorizontally();
-            racketSwing.mirrorHorizontally();
+            racketNormal = SpriteAtlas.get(SpriteAtlas.Pose.RACKET_2P, true);
+            racketSwing = SpriteAtlas.get(SpriteAtlas.Pose.RACKET_2P_SWING, true);
         }
         
-        racketNormal.scale(80, 120);
-        racketSwing.scale(80, 120);
-        
         setImage(racketNormal);
     }
     
-    public void act() {
+    protected void step() {
         handleMovement();
         handleSwing();
         applyGravity();
@@ -201,13 +196,14 @@ public class BadmintonPlayer extends Actor {
     }
     
     private void updateAnimation() {
-        // Switch to swing image while swinging
+        // Switch to swing image while swinging, only touching the actor when the pose changes
+        GreenfootImage pose = racketNormal;
         if (isSwinging && swingCooldown > 0) {
-            setImage(racketSwing);
+            pose = racketSwing;
         } else {
-            setImage(racketNormal);
             isSwinging = false;
         }
+        if (getImage() != pose) setImage(pose);
     }
     
     private void applyGravity() {
@@ -8,6 +8,7 @@ public class BadmintonWorld extends World
     private Shuttlecock shuttle;
     private BadmintonNet net;
     private ScoreBoard scoreBoard;
+    private ParticleSystem effects;
 
     private int player1Score = 0;
     private int player2Score = 0;
@@ -18,28 +19,28 @@ public class BadmintonWorld extends World
 
     private boolean gameOver = false;
 
-    // Display temporary messages on screen
-    private int messageTimer = 0;
-    private String activeMessage = null;
+    // Current temporary message, which removes itself when its time is up
+    private TextMessage activeMessage = null;
     
     // Manage background transitions
+    private BackgroundManager backgrounds;
     private int bgChangeTimer = 0;
     private final int BG_CHANGE_DURATION = 100;
+    private final int BG_FADE_FRAMES = 3;
     
     // CPU opponent settings
     private boolean cpuMode = false;
     private String cpuDifficulty = "impossible"; // easy, medium, hard, expert, impossible
-    
-    private GreenfootSound whistleSound = new GreenfootSound("whistle_sound.wav");
-    private GreenfootSound whistleEndSound = new GreenfootSound("whistle_end.wav");
 
     // Show instructions at game start
     private boolean showingInstructions = true;
     private int instructionTimer = 120; // 2 seconds at 60 fps
-    private GreenfootImage instructionsImage = new GreenfootImage("badminton_instructions.png");
+    private LazyImage instructionsImage = new LazyImage("badminton_instructions.png", 1100, 600);
+    private long createdAt = System.nanoTime();
 
     public BadmintonWorld() {
         super(1100, 600, 1);
+        prepareBackgrounds();
         showInstructionsScreen();
     }
     
@@ -47,22 +48,29 @@ public class BadmintonWorld extends World
         super(1100, 600, 1);
         this.cpuMode = isCPUMode;
         this.cpuDifficulty = difficulty;
+        prepareBackgrounds();
         showInstructionsScreen();
     }
 
+    // Load both court backgrounds and the fades between them once, so a point only swaps references
+    private void prepareBackgrounds() {
+        backgrounds = new BackgroundManager(this, 1100, 600);
+        backgrounds.add("normal", "badminton_bg_normal.png");
+        backgrounds.add("celebration", "badminton_bg_celebration.png");
+        backgrounds.prepareFade("normal", "celebration", BG_FADE_FRAMES);
+    }
+
     // Display instructions image before game starts
     private void showInstructionsScreen() {
-        instructionsImage.scale(1100, 600);
-        setBackground(instructionsImage);
+        setBackground(instructionsImage.get());
         showingInstructions = true;
         instructionTimer = 120; // about 2 seconds
     }
 
     private void prepareGame() {
+        long setupStart = System.nanoTime();
         // Net
         net = new BadmintonNet();
-        GreenfootImage netImage = net.getImage();
-        netImage.scale(20, 280);
         addObject(net, getWidth() / 2, getHeight() - 155);
 
         // Players
@@ -84,23 +92,42 @@ public class BadmintonWorld extends World
         scoreBoard = new ScoreBoard();
         addObject(scoreBoard, getWidth() / 2, 50);
 
+        // Confetti, dust and net effects, drawn over everything else
+        effects = new ParticleSystem(getWidth(), getHeight());
+        effects.addTo(this);
+
         // Play starting whistle
-        whistleSound.play();
+        SoundBank.play("whistle_sound.wav");
+        
+        AssetPreloader.reportFirstPlayableFrame("BadmintonWorld", setupStart);
     }
 
     public void act() {
+        MemoryReadout.checkToggle(this);
+
+        // Once: time from construction to the first frame shown
+        if (createdAt != 0) {
+            AssetPreloader.reportFirstFrame("BadmintonWorld", createdAt);
+            createdAt = 0;
+        }
+
+        // Work out how many physics steps the actors take this frame
+        SimulationClock.of(this).tick();
+
         // Wait for instructions to finish before starting game
         if (showingInstructions) {
             instructionTimer--;
             if (instructionTimer <= 0) {
                 showingInstructions = false;
-                returnToNormalBg();
+                backgrounds.show("normal");
+                instructionsImage.release();
                 prepareGame();
             }
             return;
         }
 
         if (Greenfoot.isKeyDown("escape")) {
+            backgrounds.release();
             Greenfoot.setWorld(new MenuWorld());
             return;
         }
@@ -111,6 +138,8 @@ public class BadmintonWorld extends World
             return;
         }
 
+        backgrounds.act();
+
         if (gameOver) return;
 
         if (shuttle != null) {
@@ -118,24 +147,18 @@ public class BadmintonWorld extends World
         }
 
         if (serveDelayTimer > 0) {
-            serveDelayTimer--;
-            if (serveDelayTimer == 0 && !gameOver) {
+            // Counts game steps, so the pause is the same length at any frame rate
+            serveDelayTimer -= SimulationClock.of(this).getSteps();
+            if (serveDelayTimer <= 0 && !gameOver) {
+                serveDelayTimer = 0;
                 resetShuttle();
             }
         }
 
-        if (messageTimer > 0) {
-            messageTimer--;
-            if (messageTimer == 0) {
-                clearTextArea();
-                scoreBoard.update(player1Score, player2Score);
-                activeMessage = null;
-            }
-        }
-        
         if (bgChangeTimer > 0) {
-            bgChangeTimer--;
-            if (bgChangeTimer == 0) {
+            bgChangeTimer -= SimulationClock.of(this).getSteps();
+            if (bgChangeTimer <= 0) {
+                bgChangeTimer = 0;
                 returnToNormalBg();
             }
         }
@@ -146,14 +169,14 @@ public class BadmintonWorld extends World
 
         int groundY = getHeight() - 27;
 
-        if (!pointAwarded && shuttle.getY() >= groundY - shuttle.getImage().getHeight() / 2) {
+        // The simulated position; the drawn one can lag a step behind
+        if (!pointAwarded && shuttle.getExactY() >= groundY - shuttle.getImage().getHeight() / 2) {
             pointAwarded = true;
 
             // Play whistle for the point
-            if (whistleSound.isPlaying()) whistleSound.stop();
-            whistleSound.play();
+            SoundBank.play("whistle_sound.wav");
 
-            boolean leftLost = (shuttle.getX() < getWidth() / 2);
+            boolean leftLost = (shuttle.getExactX() < getWidth() / 2);
             if (leftLost) {
                 player2Score++;
                 isServingLeft = false;
@@ -164,9 +187,13 @@ public class BadmintonWorld extends World
 
             scoreBoard.update(player1Score, player2Score);
 
+            // Dust where the shuttle landed and confetti over the side that won the point
+            effects.dust((int) Math.round(shuttle.getExactX()), groundY, 10);
+            effects.confetti(leftLost ? getWidth() * 3 / 4 : getWidth() / 4, getHeight() - 150, 60);
+
             // Check for winner (first to 21 points)
             if (player1Score >= 21 || player2Score >= 21) {
-                clearTextArea();
+                clearMessage();
                 endGame();
                 return;
             }
@@ -181,13 +208,12 @@ public class BadmintonWorld extends World
         gameOver = true;
 
         // Play end-game whistle
-        if (whistleEndSound.isPlaying()) whistleEndSound.stop();
-        whistleEndSound.play();
+        SoundBank.play("whistle_end.wav");
 
         String winner = (player1Score >= 21) ? "LEFT SIDE WINS!" : "RIGHT SIDE WINS!";
-        drawOutlinedText(winner, getWidth() / 2, 100, Color.GREEN, Color.BLACK, 50);
-        drawOutlinedText("Press ESC to return to menu", getWidth() / 2, 170, Color.WHITE, Color.BLACK, 30);
-        drawOutlinedText("Press R to reset game", getWidth() / 2, 220, Color.CYAN, Color.BLACK, 30);
+        new TextMessage(winner, Color.GREEN, Color.BLACK, 50, 0).show(this, getWidth() / 2, 100);
+        new TextMessage("Press ESC to return to menu", Color.WHITE, Color.BLACK, 30, 0).show(this, getWidth() / 2, 170);
+        new TextMessage("Press R to reset game", Color.CYAN, Color.BLACK, 30, 0).show(this, getWidth() / 2, 220);
     }
 
     // Reset all game state and show instructions again
@@ -199,7 +225,6 @@ public class BadmintonWorld extends World
         isServingLeft = true;
         serveDelayTimer = 0;
         gameOver = false;
-        messageTimer = 0;
         activeMessage = null;
         bgChangeTimer = 0;
 
@@ -226,60 +251,46 @@ public class BadmintonWorld extends World
 
     private void spawnNewShuttle(int x, int y) {
         shuttle = new Shuttlecock();
-        GreenfootImage img = shuttle.getImage();
-        img.scale(35, 35);
-        shuttle.setImage(img);
         addObject(shuttle, x, y);
     }
 
     // Switch to celebration background when point is scored
     private void changeBgToCelebration() {
-        GreenfootImage bg = new GreenfootImage("badminton_bg_celebration.png");
-        bg.scale(1100, 600);
-        setBackground(bg);
+        backgrounds.fadeTo("celebration", BG_FADE_FRAMES);
         bgChangeTimer = BG_CHANGE_DURATION;
     }
 
     // Return to normal game background
     private void returnToNormalBg() {
-        GreenfootImage bg = new GreenfootImage("badminton_bg_normal.png");
-        bg.scale(1100, 600);
-        setBackground(bg);
+        backgrounds.fadeTo("normal", BG_FADE_FRAMES);
     }
 
     // Display point scored message with timer
     private void showPointMessage(String text) {
-        clearTextArea();
-        drawOutlinedText(text, getWidth() / 2, 200, Color.RED, Color.BLACK, 40);
-        activeMessage = text;
-        messageTimer = 70;
+        showMessage(new TextMessage(text, Color.RED, Color.BLACK, 40, 70), 200);
     }
 
     // Display serve announcement message
     private void showServeMessage(String text) {
-        clearTextArea();
-        drawOutlinedText(text, getWidth() / 2, 100, Color.YELLOW, Color.BLACK, 32);
-        activeMessage = text;
-        messageTimer = 100;
+        showMessage(new TextMessage(text, Color.YELLOW, Color.BLACK, 32, 100), 100);
     }
 
-    // Draw text with colored outline effect
-    private void drawOutlinedText(String text, int centerX, int y, Color mainColor, Color outlineColor, int size) {
-        GreenfootImage img = new GreenfootImage(text, size, mainColor, new Color(0, 0, 0, 0));
-        GreenfootImage outline = new GreenfootImage(text, size, outlineColor, new Color(0, 0, 0, 0));
-        GreenfootImage combined = new GreenfootImage(img.getWidth() + 4, img.getHeight() + 4);
-
-        for (int dx = -2; dx <= 2; dx++)
-            for (int dy = -2; dy <= 2; dy++)
-                combined.drawImage(outline, dx + 2, dy + 2);
+    // Replace the current temporary message; the background is never painted on
+    private void showMessage(TextMessage message, int y) {
+        clearMessage();
+        activeMessage = message;
+        message.show(this, getWidth() / 2, y);
+    }
 
-        combined.drawImage(img, 2, 2);
-        int x = centerX - combined.getWidth() / 2;
-        getBackground().drawImage(combined, x, y);
+    // Remove the temporary message if it is still showing
+    private void clearMessage() {
+        if (activeMessage != null && activeMessage.getWorld() != null) {
+            removeObject(activeMessage);
+        }
+        activeMessage = null;
     }
 
-    // Update scoreboard display
-    private void clearTextArea() {
-        scoreBoard.update(player1Score, player2Score);
+    public ParticleSystem getEffects() {
+        return effects;
     }
 }
\ No newline at end of file
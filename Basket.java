@@ -3,37 +3,28 @@ import greenfoot.*;  // (World, Actor, GreenfootImage, Greenfoot and MouseInfo)
 public class Basket extends Actor
 {
     private int hoopY;
-    private GreenfootSound rimSound;
-    private boolean soundEnabled = true;
     private Backboard backboard;
     
+    // The rim is the bar along the top of the image, solid only at its two ends
+    private static final int RIM_Y_OFFSET = -24;
+    private static final int RIM_HALF_WIDTH = 36;
+    private static final int RIM_END_RADIUS = 5;
+    
+    // The net hangs from the rim to the bottom of the image, a little left of centre
+    private static final int NET_LEFT = -36;
+    private static final int NET_RIGHT = 26;
+    private static final int NET_BOTTOM = 30;
+    private final SweptCircle other = new SweptCircle();
+    
    
     private void playRimSound() {
-        if (!soundEnabled) return;
-        try {
-            GreenfootSound s = new GreenfootSound("sounds/basket_rim.wav");
-            s.setVolume(80);
-            s.play();
-        } catch (Exception e) {
-            soundEnabled = false;
-            System.out.println("Bounce sound failed: " + e.getMessage());
-        }
+        SoundBank.play("sounds/basket_rim.wav", 80);
     }
     
     public Basket()
     {
-        GreenfootImage basketImage = new GreenfootImage("images/basket.png");
-        basketImage.scale(80, 60);
-        setImage(basketImage);
+        setImage(ImageCache.get("images/basket.png", 80, 60));
         hoopY = 0;
-        
-        try {
-            rimSound = new GreenfootSound("sounds/basket_rim.wav");
-        } catch (Throwable t) {
-            System.out.println("Could not load rim sound: " + t.getMessage());
-            soundEnabled = false;
-            rimSound = null;
-        }
     }
     
     public void act()
@@ -45,44 +36,72 @@ public class Basket extends Actor
         }
     }
     
-    public boolean checkScore(Basketball ball)
+    // Height of the rim line the ball has to drop through
+    public double getRimY()
     {
-        int ballX = ball.getX();
-        int ballY = ball.getY();
-        int prevBallY = ball.getPrevY();
-        int basketX = getX();
-        int basketY = getY();
-        
-        int rimHalfWidth = 35;
-        int rimTop = basketY + 10;
-        int rimBottom = basketY + 55;
-        
-        // Check if ball is horizontally aligned with the hoop
-        boolean inHorizontalZone = Math.abs(ballX - basketX) < rimHalfWidth;
-        
-        // Check if ball passed through the rim opening from above
-        boolean crossedRimFromAbove = (prevBallY < rimTop && ballY >= rimTop);
-        
-        // Check if ball is currently within the rim vertical zone
-        boolean inVerticalZone = (ballY >= rimTop && ballY <= rimBottom);
-        boolean movingDownward = ball.getVelocityY() > 0.5;
+        return getY() + RIM_Y_OFFSET;
+    }
+    
+    /**
+     * Sweeps a ball against the two ends of the rim and the sides and bottom
+     * of the net. On a hit, the time and normal of the first contact are left
+     * in hit.
+     */
+    public boolean sweepRim(double x, double y, double dx, double dy, double radius, SweptCircle hit)
+    {
+        boolean found = hit.againstCircle(x, y, dx, dy, radius, getX() - RIM_HALF_WIDTH, getRimY(), RIM_END_RADIUS);
+        found = firstOf(found, hit, other.againstCircle(x, y, dx, dy, radius, getX() + RIM_HALF_WIDTH, getRimY(), RIM_END_RADIUS));
         
-        // Score when ball moves downward through the hoop
-        if (inHorizontalZone && movingDownward && (crossedRimFromAbove || inVerticalZone))
+        // The top of the net is the opening, so a ball coming down onto it passes in
+        boolean net = other.againstBox(x, y, dx, dy, radius, getX() + NET_LEFT, getRimY(), getX() + NET_RIGHT, getY() + NET_BOTTOM);
+        return firstOf(found, hit, net && other.normalY > -0.7);
+    }
+    
+    // Keeps whichever of hit and other touches first
+    private boolean firstOf(boolean found, SweptCircle hit, boolean otherFound)
+    {
+        if (otherFound && (!found || other.time < hit.time))
         {
-            if (soundEnabled && rimSound != null)
-            {
-                try {
-                    playRimSound();
-                } catch (Throwable t) {
-                    soundEnabled = false;
-                }
-            }
+            hit.time = other.time;
+            hit.normalX = other.normalX;
+            hit.normalY = other.normalY;
+            return true;
+        }
+        return found;
+    }
+    
+    /**
+     * True if a ball centre moving from (x, y) by (dx, dy) drops through the
+     * rim opening from above, between the two rim ends.
+     */
+    public boolean checkScore(double x, double y, double dx, double dy)
+    {
+        if (dy > 0 && crossesOpening(x, y, dx, dy))
+        {
+            playRimSound();
             return true;
         }
         return false;
     }
     
+    // True if the ball centre comes up through the opening from under the hoop
+    public boolean blocksFromBelow(double x, double y, double dx, double dy)
+    {
+        return dy < 0 && crossesOpening(x, y, dx, dy);
+    }
+    
+    // True if the path crosses the rim line between the rim ends
+    private boolean crossesOpening(double x, double y, double dx, double dy)
+    {
+        double rimY = getRimY();
+        if ((y < rimY) == (y + dy < rimY))
+        {
+            return false;
+        }
+        double crossX = x + dx * (rimY - y) / dy;
+        return Math.abs(crossX - getX()) < RIM_HALF_WIDTH;
+    }
+    
     public void setBackboard(Backboard backboard)
     {
         this.backboard = backboard;
@@ -1,52 +1,27 @@
 import greenfoot.*;
 
-public class Basketball extends Actor
+public class Basketball extends PhysicsActor
 {
     private double velocityX = 0;
     private double velocityY = 0;
     private final double gravity = 0.3;
     private final double bounceDamping = 0.7;
     private final double friction = 0.98;
-    private GreenfootSound bounceSound;
-    private GreenfootSound scoreSound;
-    private GreenfootSound backboardSound;
-    private GreenfootSound smackSound;
-    private boolean soundEnabled = true;
+    private final double radius = 21;
     
-    private int prevX = 0;
-    private int prevY = 0;
-    
-    public int getPrevY()
-    {
-        return prevY;
-    }
+    // Reused for every rim test
+    private final SweptCircle rimHit = new SweptCircle();
     
     public Basketball()
     {
-        GreenfootImage ballImage = new GreenfootImage("images/basketball.png");
-        ballImage.scale(42, 42);
-        setImage(ballImage);
-        
-        try {
-            smackSound = new GreenfootSound("sounds/basketball_smack.wav");
-            bounceSound = new GreenfootSound("sounds/basketball_bounce.wav");
-            scoreSound = new GreenfootSound("sounds/basketball_score.wav");
-            backboardSound = new GreenfootSound("sounds/basketball_backboard.wav");
-        } catch (Throwable t) {
-            System.out.println("Could not load one or more sounds: " + t.getMessage());
-            soundEnabled = false;
-        }
+        setImage(ImageCache.get("images/basketball.png", 42, 42));
     }
     
-    public void act()
+    protected void step()
     {
         applyPhysics();
         checkCollisions();
         checkBounds();
-        
-        // Store current position for next frame to detect crossing the rim
-        prevX = getX();
-        prevY = getY();
     }
     
     private void applyPhysics()
@@ -54,7 +29,64 @@ public class Basketball extends Actor
         // (all physics code below is AI-generated since im dumb af like damn, ball physics)
         velocityY += gravity;
         velocityX *= friction;
-        setLocation(getX() + (int) velocityX, getY() + (int) velocityY);
+        moveThroughRim();
+    }
+    
+    // Moves one step's worth, bouncing off the rim and scoring if the ball drops through the hoop
+    private void moveThroughRim()
+    {
+        BasketballWorld world = (BasketballWorld) getWorld();
+        Basket basket = world.getBasket();
+        double x = getExactX();
+        double y = getExactY();
+        double dx = velocityX;
+        double dy = velocityY;
+        
+        // Only go as far as the first part of the rim or net the ball touches
+        boolean hitRim = basket.sweepRim(x, y, dx, dy, radius, rimHit);
+        if (hitRim)
+        {
+            dx *= rimHit.time;
+            dy *= rimHit.time;
+        }
+        
+        // Dropped through the hoop before reaching the rim
+        if (basket.checkScore(x, y, dx, dy))
+        {
+            moveBy(dx, dy);
+            SoundBank.play("basketball_score.wav");
+            velocityX = 0;
+            velocityY = 0;
+            world.addScore();
+            return;
+        }
+        
+        // Coming up through the hoop: the net stops it
+        if (basket.blocksFromBelow(x, y, dx, dy))
+        {
+            double t = (basket.getRimY() - y) / dy;
+            setExactLocation(x + dx * t, basket.getRimY());
+            velocityY = -velocityY * bounceDamping;
+            SoundBank.play("basketball_bounce.wav");
+            return;
+        }
+        
+        moveBy(dx, dy);
+        if (hitRim)
+        {
+            // Bounce off the rim or net, losing speed only along the contact normal
+            double dot = velocityX * rimHit.normalX + velocityY * rimHit.normalY;
+            if (dot < 0)
+            {
+                velocityX -= (1 + bounceDamping) * dot * rimHit.normalX;
+                velocityY -= (1 + bounceDamping) * dot * rimHit.normalY;
+                SoundBank.play("basketball_bounce.wav");
+                
+                // Sparks where the ball clipped the basket
+                world.getEffects().sparks((int) Math.round(getExactX() - rimHit.normalX * radius),
+                                          (int) Math.round(getExactY() - rimHit.normalY * radius), 12);
+            }
+        }
     }
     
     public int getRimY() {
@@ -67,15 +99,7 @@ public class Basketball extends Actor
         Hand hand = (Hand) getOneIntersectingObject(Hand.class);
         if (hand != null)
         {
-            if (soundEnabled && smackSound != null)
-            {
-                try {
-                    if (smackSound.isPlaying()) smackSound.stop();
-                    smackSound.play();
-                } catch (Throwable t) {
-                    soundEnabled = false;
-                }
-            }
+            SoundBank.play("basketball_smack.wav");
 
             // (all the physics stuff below - AI magic)
             double dx = getX() - hand.getX();
@@ -88,10 +112,7 @@ public class Basketball extends Actor
                 double nx = dx / distance;
                 double ny = dy / distance;
 
-                setLocation(
-                    (int)(hand.getX() + nx * minDistance),
-                    (int)(hand.getY() + ny * minDistance)
-                );
+                setExactLocation(hand.getExactX() + nx * minDistance, hand.getExactY() + ny * minDistance);
 
                 double dot = velocityX * nx + velocityY * ny;
                 velocityX -= 2 * dot * nx;
@@ -102,14 +123,24 @@ public class Basketball extends Actor
 
                 velocityX += hand.getVelocityX() * 0.5;
                 velocityY += hand.getVelocityY() * 0.3;
-
-                if (Math.abs(velocityX) < 0.3) velocityX = 0;
-                if (Math.abs(velocityY) < 0.3) velocityY = 0;
             }
         }
 
+        // Fixtures are painted into the background, so they are found through its static layer,
+        // all in one lookup of the cells around the ball
+        Boundary boundary = null;
+        Backboard backboard = null;
+        java.util.List<Actor> near = ((BasketballWorld) getWorld()).getStaticLayer().getNear(this);
+        for (int i = 0; i < near.size(); i++)
+        {
+            Actor fixture = near.get(i);
+            if (boundary == null && fixture instanceof Boundary)
+                boundary = (Boundary) fixture;
+            else if (backboard == null && fixture instanceof Backboard)
+                backboard = (Backboard) fixture;
+        }
+        
         // Boundary collision - hit walls/obstacles
-        Boundary boundary = (Boundary) getOneIntersectingObject(Boundary.class);
         if (boundary != null)
         {
             // (more physics - AI handled this)
@@ -123,10 +154,7 @@ public class Basketball extends Actor
                 double nx = dx / distance;
                 double ny = dy / distance;
 
-                setLocation(
-                    (int)(boundary.getX() + nx * minDistance),
-                    (int)(boundary.getY() + ny * minDistance)
-                );
+                setExactLocation(boundary.getX() + nx * minDistance, boundary.getY() + ny * minDistance);
 
                 double dot = velocityX * nx + velocityY * ny;
                 velocityX -= 2 * dot * nx;
@@ -135,22 +163,11 @@ public class Basketball extends Actor
                 velocityX *= bounceDamping;
                 velocityY *= bounceDamping;
 
-                if (Math.abs(velocityX) < 0.3) velocityX = 0;
-                if (Math.abs(velocityY) < 0.3) velocityY = 0;
-
-                if (soundEnabled && bounceSound != null)
-                {
-                    try { 
-                        if (soundEnabled && bounceSound != null) bounceSound.play(); 
-                    } catch (Throwable t) { 
-                        soundEnabled = false; 
-                    }
-                }
+                SoundBank.play("basketball_bounce.wav");
             }
         }
         
         // Backboard collision - ball bounces off the backboard
-        Backboard backboard = (Backboard) getOneIntersectingObject(Backboard.class);
         if (backboard != null)
         {
             // (physics collision detection - AI knows better than me)
@@ -175,96 +192,30 @@ public class Basketball extends Actor
                 int minOverlap = Math.min(Math.min(overlapLeft, overlapRight), 
                                            Math.min(overlapTop, overlapBottom));
                 
-                // Hit from left or right side
+                // Hit from left or right side: rest against that face
                 if (minOverlap == overlapLeft || minOverlap == overlapRight)
                 {
                     velocityX = -velocityX * bounceDamping;
                     
-                    int push = (int) Math.max(4, Math.abs(velocityX) + 1);
                     if (getX() < backboard.getX())
-                        setLocation(getX() - push, getY());
+                        setExactLocation(bbLeft - 21, getExactY());
                     else
-                        setLocation(getX() + push, getY());
+                        setExactLocation(bbRight + 21, getExactY());
                 }
                 // Hit from top or bottom
                 else
                 {
                     velocityY = -velocityY * bounceDamping;
                     
-                    int push = (int) Math.max(4, Math.abs(velocityY) + 1);
                     if (getY() < backboard.getY())
-                        setLocation(getX(), getY() - push);
+                        setExactLocation(getExactX(), bbTop - 21);
                     else
-                        setLocation(getX(), getY() + push);
+                        setExactLocation(getExactX(), bbBottom + 21);
                 }
                 
-                if (Math.abs(velocityX) < 0.5) velocityX = 0;
-                if (Math.abs(velocityY) < 0.5) velocityY = 0;
-                
-                if (Math.abs(velocityX) < 2 && velocityX != 0) 
-                    velocityX = (velocityX > 0 ? 2 : -2);
-                if (Math.abs(velocityY) < 2 && velocityY != 0) 
-                    velocityY = (velocityY > 0 ? 2 : -2);
-                
-                if (soundEnabled && backboardSound != null &&
-                    (Math.abs(velocityX) > 2 || Math.abs(velocityY) > 2))
-                {
-                    backboardSound.play();
-                }
-            }
-        }
-
-        // Basket collision - check for scoring or bounce off rim
-        Basket basket = (Basket) getOneIntersectingObject(Basket.class);
-        if (basket != null)
-        {
-            // Check if ball scored in the basket
-            if (basket.checkScore(this) && velocityY > 0)
-            {
-                if (soundEnabled && scoreSound != null) scoreSound.play();
-                BasketballWorld world = (BasketballWorld) getWorld();
-                world.addScore();
-
-                velocityX = 0;
-                velocityY = 0;
-                return;
-            }
-            else
-            {
-                double dx = getX() - basket.getX();
-                double dy = getY() - basket.getY();
-
-                // Don't bounce if ball is above rim and falling through
-                if (dy < -20 && velocityY > 0)
+                if (Math.abs(velocityX) > 2 || Math.abs(velocityY) > 2)
                 {
-                    return;
-                }
-
-                // Bounce from below or side of basket
-                if (dy > 0 || Math.abs(dx) > 25)
-                {
-                    if (dy > 0 && velocityY < 0)
-                        velocityY = -velocityY * bounceDamping;
-                    else if (Math.abs(dx) > 25)
-                        velocityX = -velocityX * bounceDamping;
-
-                    int push = (int) Math.max(3, Math.abs(velocityX) + 1);
-                    if (getX() < basket.getX())
-                        setLocation(getX() - push, getY());
-                    else
-                        setLocation(getX() + push, getY());
-
-                    if (Math.abs(velocityX) < 0.3) velocityX = 0;
-                    if (Math.abs(velocityY) < 0.3) velocityY = 0;
-
-                    if (soundEnabled && bounceSound != null)
-                    {
-                        try {
-                            if (soundEnabled && bounceSound != null) bounceSound.play();
-                        } catch (Throwable t) {
-                            soundEnabled = false;
-                        }
-                    }
+                    SoundBank.play("basketball_backboard.wav");
                 }
             }
         }
@@ -273,38 +224,31 @@ public class Basketball extends Actor
     private void checkBounds()
     {
         // Ceiling collision
-        if (getY() <= 20)
+        if (getExactY() <= 20)
         {
-            setLocation(getX(), 20);
+            setExactLocation(getExactX(), 20);
             velocityY = -velocityY * bounceDamping;
             velocityX *= bounceDamping;
             
-            if (soundEnabled && bounceSound != null && Math.abs(velocityY) > 2)
+            if (Math.abs(velocityY) > 2)
             {
-                try {
-                   if (soundEnabled && bounceSound != null) bounceSound.play();
-                } catch (Throwable t) {
-                    soundEnabled = false;
-                }
+                SoundBank.play("basketball_bounce.wav");
             }
         }
         
         // Floor collision
         int groundY = getWorld().getHeight() - 45;
 
-        if (getY() >= groundY)
+        if (getExactY() >= groundY)
         {
-            setLocation(getX(), groundY);
+            setExactLocation(getExactX(), groundY);
             velocityY = -velocityY * bounceDamping;
             velocityX *= bounceDamping;
             
-            if (soundEnabled && bounceSound != null && Math.abs(velocityY) > 2)
+            if (Math.abs(velocityY) > 2)
             {
-                try {
-                    if (soundEnabled && bounceSound != null) bounceSound.play();
-                } catch (Throwable t) {
-                    soundEnabled = false;
-                }
+                SoundBank.play("basketball_bounce.wav");
+                ((BasketballWorld) getWorld()).getEffects().dust(getX(), groundY + 21, 10);
             }
             
             // Stop ball if it's barely moving
@@ -316,34 +260,26 @@ public class Basketball extends Actor
         }
         
         // Left wall collision
-        if (getX() <= 20)
+        if (getExactX() <= 20)
         {
-            setLocation(20, getY());
+            setExactLocation(20, getExactY());
             velocityX = -velocityX * bounceDamping;
             
-            if (soundEnabled && bounceSound != null && Math.abs(velocityX) > 2)
+            if (Math.abs(velocityX) > 2)
             {
-                try {
-                    bounceSound.play();
-                } catch (Throwable t) {
-                    soundEnabled = false;
-                }
+                SoundBank.play("basketball_bounce.wav");
             }
         }
         
         // Right wall collision
-        if (getX() >= getWorld().getWidth() - 20)
+        if (getExactX() >= getWorld().getWidth() - 20)
         {
-            setLocation(getWorld().getWidth() - 20, getY());
+            setExactLocation(getWorld().getWidth() - 20, getExactY());
             velocityX = -velocityX * bounceDamping;
             
-            if (soundEnabled && bounceSound != null && Math.abs(velocityX) > 2)
+            if (Math.abs(velocityX) > 2)
             {
-                try {
-                    if (soundEnabled && bounceSound != null) bounceSound.play();
-                } catch (Throwable t) {
-                    soundEnabled = false;
-                }
+                SoundBank.play("basketball_bounce.wav");
             }
         }
     }
@@ -0,0 +1,76 @@
+import greenfoot.*;
+
+/**
+ * Developer harness, not reachable from the menu: the basketball court with
+ * hundreds of obstacles, to check that the ball's fixture lookup stays flat as
+ * the count grows. Create it from Greenfoot's world menu and play as normal.
+ * Each press of F4 scatters another batch of obstacles, and the obstacle count
+ * and the average cost of the lookup are shown under the score.
+ */
+public class BasketballStressWorld extends BasketballWorld
+{
+    private static final String ADD_KEY = "f4";
+    private static final int BATCH = 100;
+    
+    private boolean keyWasDown = false;
+    private HudLayer.Field stats;
+    private long lookupNanos = 0;
+    private int frames = 0;
+    
+    public BasketballStressWorld()
+    {
+        super(false, "medium");
+    }
+    
+    public void act()
+    {
+        super.act();
+        
+        // Nothing to measure until the instructions screen is over
+        if (getHud() == null) return;
+        if (stats == null)
+        {
+            stats = getHud().addField("Stress: ", 40, 60, Color.WHITE, Color.BLACK, 20);
+            addObstacles();
+        }
+        
+        boolean down = Greenfoot.isKeyDown(ADD_KEY);
+        if (down && !keyWasDown)
+        {
+            addObstacles();
+        }
+        keyWasDown = down;
+        
+        // Time the same lookup the ball makes every step
+        long start = System.nanoTime();
+        int near = getStaticLayer().getNear(getBall()).size();
+        lookupNanos += System.nanoTime() - start;
+        frames++;
+        
+        if (frames == SimulationClock.STEPS_PER_SECOND)
+        {
+            stats.set(getStaticLayer().size() + " fixtures, " + near + " near the ball, " + (lookupNanos / frames) + " ns per lookup");
+            lookupNanos = 0;
+            frames = 0;
+        }
+    }
+    
+    private void addObstacles()
+    {
+        // Anywhere clear of the hoop; they stay put and are not moved after a score
+        Basket basket = getBasket();
+        for (int i = 0; i < BATCH; i++)
+        {
+            int x = Greenfoot.getRandomNumber(getWidth() - 100) + 50;
+            int y = Greenfoot.getRandomNumber(getHeight() - 150) + 50;
+            if (Math.hypot(x - basket.getX(), y - basket.getY()) < 150)
+            {
+                continue;
+            }
+            Boundary obstacle = new Boundary();
+            addObject(obstacle, x, y);
+            getStaticLayer().add(obstacle);
+        }
+        getHud().refresh();
+    }
+}
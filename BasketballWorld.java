@@ -15,8 +15,6 @@ public class BasketballWorld extends World
     private boolean gameOver = false;
     private boolean endGameDisplayed = false;
     private Arrow arrow;
-    private GreenfootSound timeEndSound;
-    private boolean soundEnabled = true;
     
     // CPU difficulty settings
     private boolean cpuMode = false;
@@ -31,7 +29,18 @@ public class BasketballWorld extends World
     // Initial instructions screen
     private boolean showingInstructions = true;
     private int instructionTimer = 120;
-    private GreenfootImage instructionsImage = new GreenfootImage("basketball_instructions.png");
+    private LazyImage instructionsImage = new LazyImage("basketball_instructions.png", 1100, 600);
+    
+    // Backboard, basket and obstacles, painted into the background
+    private StaticLayer statics;
+    
+    // Confetti, sparks and dust, drawn over everything else
+    private ParticleSystem effects;
+    
+    // Score, time and difficulty, redrawn only when they change
+    private HudLayer hud;
+    private HudLayer.Field scoreField, timeField;
+    private long createdAt = System.nanoTime();
 
     public BasketballWorld()
     {    
@@ -49,17 +58,24 @@ public class BasketballWorld extends World
     }
     
     private void showInstructionsScreen() {
-        instructionsImage.scale(1100, 600);
-        setBackground(instructionsImage);
+        setBackground(instructionsImage.get());
         showingInstructions = true;
         instructionTimer = 120;
     }
     
     private void prepareGame() {
-        // Load and set background image
-        GreenfootImage bg = new GreenfootImage("images/bg.png");
-        bg.scale(1100, 600);
-        setBackground(bg);
+        long setupStart = System.nanoTime();
+        // Court with the fixtures on it, and a private copy of that for the HUD to draw onto
+        statics = new StaticLayer(ImageCache.get("images/bg.png", 1100, 600));
+        setBackground(ImageMemoryTracker.track(this, new GreenfootImage(statics.getImage())));
+        hud = new HudLayer(getBackground(), statics.getImage());
+        scoreField = hud.addField("Score: ", 40, 20, Color.WHITE, Color.BLACK, 28);
+        timeField = hud.addField("Time: ", 950, 20, Color.RED, Color.BLACK, 28);
+        
+        // Show difficulty setting if playing against CPU
+        if (cpuMode) {
+            hud.addField("Difficulty: ", 40, 570, Color.WHITE, Color.BLACK, 20).set(difficulty.toUpperCase());
+        }
         
         // Create basketball in starting position
         ball = new Basketball();
@@ -80,29 +96,43 @@ public class BasketballWorld extends World
         backboard.setBasket(basket);
         basket.setBackboard(backboard);
         
+        // They only move when a basket is scored, so paint them into the background
+        statics.add(backboard);
+        statics.add(basket);
+        hud.refresh();
+        
         // Create arrow visual for aiming before release
         arrow = new Arrow();
         addObject(arrow, ball.getX(), ball.getY());
         arrow.setVisible(false);
         
-        // Load end-of-game sound effect with fallback
-        try {
-            timeEndSound = new GreenfootSound("sounds/time_end.wav");
-        } catch (Throwable t) {
-            System.out.println("Could not load time end sound: " + t.getMessage());
-            soundEnabled = false;
-            timeEndSound = null;
-        }
+        effects = new ParticleSystem(getWidth(), getHeight());
+        effects.addTo(this);
+        
+        AssetPreloader.reportFirstPlayableFrame("BasketballWorld", setupStart);
     }
     
     public void act()
     {
+        MemoryReadout.checkToggle(this);
+        
+        // Once: time from construction to the first frame shown
+        if (createdAt != 0)
+        {
+            AssetPreloader.reportFirstFrame("BasketballWorld", createdAt);
+            createdAt = 0;
+        }
+        
+        // Work out how many physics steps the actors take this frame
+        SimulationClock.of(this).tick();
+
         // Show instructions screen for 2 seconds before game starts
         if (showingInstructions) {
             instructionTimer--;
             if (instructionTimer <= 0) {
                 showingInstructions = false;
                 prepareGame();
+                instructionsImage.release();
             }
             return;
         }
@@ -141,35 +171,11 @@ public class BasketballWorld extends World
                 gameOver = true;
                 
                 // Play end-of-game sound effect
-                if (soundEnabled && timeEndSound != null)
-                {
-                    try {
-                        timeEndSound.play();
-                    } catch (Throwable t) {
-                        soundEnabled = false;
-                    }
-                }
+                SoundBank.play("sounds/time_end.wav");
             }
         }
     }
     
-    private void drawOutlinedText(String text, int centerX, int y, Color mainColor, Color outlineColor, int size)
-    {
-        // Create main text and outline text layers
-        GreenfootImage img = new GreenfootImage(text, size, mainColor, new Color(0, 0, 0, 0));
-        GreenfootImage outline = new GreenfootImage(text, size, outlineColor, new Color(0, 0, 0, 0));
-        GreenfootImage combined = new GreenfootImage(img.getWidth() + 4, img.getHeight() + 4);
-
-        // Draw outline around text for better visibility
-        for (int dx = -2; dx <= 2; dx++)
-            for (int dy = -2; dy <= 2; dy++)
-                combined.drawImage(outline, dx + 2, dy + 2);
-
-        combined.drawImage(img, 2, 2);
-        int x = centerX - combined.getWidth() / 2;
-        getBackground().drawImage(combined, x, y);
-    }
-    
     private void handleMouseInput()
     {
         MouseInfo mouse = Greenfoot.getMouseInfo();
@@ -219,13 +225,11 @@ public class BasketballWorld extends World
     {
         // Display final score and reset instructions once when game ends
         if (gameOver && !endGameDisplayed) {
-            GreenfootImage bg = new GreenfootImage("images/bg.png");
-            bg.scale(1100, 600);
-            setBackground(bg);
+            getBackground().drawImage(statics.getImage(), 0, 0);
             
-            drawOutlinedText("GAME OVER", 550, 150, Color.YELLOW, Color.BLACK, 60);
-            drawOutlinedText("Final Score: " + score, 550, 250, Color.WHITE, Color.BLACK, 50);
-            drawOutlinedText("Press R to reset or ESC to return to menu", 550, 350, Color.WHITE, Color.BLACK, 30);
+            OutlinedText.drawCentered(getBackground(), "GAME OVER", 550, 150, Color.YELLOW, Color.BLACK, 60);
+            OutlinedText.drawCentered(getBackground(), "Final Score: " + score, 550, 250, Color.WHITE, Color.BLACK, 50);
+            OutlinedText.drawCentered(getBackground(), "Press R to reset or ESC to return to menu", 550, 350, Color.WHITE, Color.BLACK, 30);
             
             endGameDisplayed = true;
             return;
@@ -233,24 +237,15 @@ public class BasketballWorld extends World
         
         if (gameOver) return;
         
-        // Redraw background each frame and display current stats
-        GreenfootImage bg = new GreenfootImage("images/bg.png");
-        bg.scale(1100, 600);
-        setBackground(bg);
-        
-        // Draw score and time remaining in top corners
-        drawGameText("Score: ", score, 40, 20, Color.WHITE, Color.BLACK);
-        drawGameText("Time: ", timeLeft, 950, 20, Color.RED, Color.BLACK);
-        
-        // Show difficulty setting if playing against CPU
-        if (cpuMode) {
-            drawGameText("Difficulty: " + difficulty.toUpperCase(), "", 40, 570, Color.WHITE, Color.BLACK);
-        }
+        // Score and time remaining in top corners; unchanged values cost nothing
+        scoreField.set(score);
+        timeField.set(timeLeft);
     }
 
     public void addScore()
     {
         score += 2;
+        effects.confetti(basket.getX(), basket.getY(), 80);
         basket.moveToRandomLocation();
         
         // Add new obstacle boundaries at score milestones
@@ -261,6 +256,10 @@ public class BasketballWorld extends World
         
         // Relocate existing boundaries after each basket
         moveAllBoundaries();
+        
+        // Paint the fixtures in their new places, under the HUD
+        statics.rebake();
+        hud.refresh();
     }
     
     private void addBoundary()
@@ -287,6 +286,7 @@ public class BasketballWorld extends World
                 Boundary newBoundary = new Boundary();
                 addObject(newBoundary, newX, newY);
                 boundaries.add(newBoundary);
+                statics.add(newBoundary);
                 break;
             }
             
@@ -366,42 +366,34 @@ public class BasketballWorld extends World
         return true;
     }
     
-    public boolean isGameOver()
+    public Basketball getBall()
     {
-        return gameOver;
+        return ball;
     }
     
-    // Draw text with integer value and outline effect
-    private void drawGameText(String label, int value, int x, int y, Color mainColor, Color outlineColor)
+    // Score and time display; null until the instructions screen is over
+    protected HudLayer getHud()
     {
-        String text = label + value;
-        Font font = new Font("Arial", true, false, 28);
-        GreenfootImage img = new GreenfootImage(text, 28, mainColor, new Color(0, 0, 0, 0));
-
-        GreenfootImage outline = new GreenfootImage(text, 28, outlineColor, new Color(0, 0, 0, 0));
-        GreenfootImage combined = new GreenfootImage(img.getWidth() + 4, img.getHeight() + 4);
-        for (int dx = -2; dx <= 2; dx++)
-            for (int dy = -2; dy <= 2; dy++)
-                combined.drawImage(outline, dx + 2, dy + 2);
-        combined.drawImage(img, 2, 2);
-
-        getBackground().drawImage(combined, x, y);
+        return hud;
     }
     
-    // Draw text with string value and outline effect
-    private void drawGameText(String label, String value, int x, int y, Color mainColor, Color outlineColor)
+    public Basket getBasket()
     {
-        String text = label + value;
-        Font font = new Font("Arial", true, false, 20);
-        GreenfootImage img = new GreenfootImage(text, 20, mainColor, new Color(0, 0, 0, 0));
-
-        GreenfootImage outline = new GreenfootImage(text, 20, outlineColor, new Color(0, 0, 0, 0));
-        GreenfootImage combined = new GreenfootImage(img.getWidth() + 4, img.getHeight() + 4);
-        for (int dx = -2; dx <= 2; dx++)
-            for (int dy = -2; dy <= 2; dy++)
-                combined.drawImage(outline, dx + 2, dy + 2);
-        combined.drawImage(img, 2, 2);
-
-        getBackground().drawImage(combined, x, y);
+        return basket;
+    }
+    
+    public StaticLayer getStaticLayer()
+    {
+        return statics;
+    }
+    
+    public ParticleSystem getEffects()
+    {
+        return effects;
+    }
+    
+    public boolean isGameOver()
+    {
+        return gameOver;
     }
 }
\ No newline at end of file
@@ -12,9 +12,7 @@ public class Boundary extends Actor
     public Boundary()
     {
         // Load and scale the boundary image to fit game
-        GreenfootImage boundaryImage = new GreenfootImage("images/boundary.png");
-        boundaryImage.scale(40, 85);
-        setImage(boundaryImage);
+        setImage(ImageCache.get("images/boundary.png", 40, 85));
         
         // Track dimensions for collision detection later
         width = 80;
@@ -4,6 +4,9 @@ import greenfoot.*;
  * A helper Actor that displays an image which enlarges slightly when hovered.
  */
 public class ClickableImage extends Actor {
+    // How much larger the image is drawn while hovered
+    public static final double HOVER_SCALE = 1.1;
+    
     // Stores the normal-sized version of the image
     private GreenfootImage normalImage;
     
@@ -13,9 +16,6 @@ public class ClickableImage extends Actor {
     // Tracks whether the image is currently being hovered over
     private boolean isHovered = false;
     
-    // Sound effect to play when the image is interacted with
-    private GreenfootSound menuSound = new GreenfootSound("menu_sound.wav");
-    
     /**
      * Constructor that initializes the clickable image with normal and hover states.
      * 
@@ -25,12 +25,10 @@ public class ClickableImage extends Actor {
      */
     public ClickableImage(String imagePath, int width, int height) {
         // Load and scale the image to normal size
-        normalImage = new GreenfootImage(imagePath);
-        normalImage.scale(width, height);
+        normalImage = ImageCache.get(imagePath, width, height);
         
         // Load and scale the image 10% larger for the hover effect
-        hoverImage = new GreenfootImage(imagePath);
-        hoverImage.scale((int)(width * 1.1), (int)(height * 1.1));
+        hoverImage = ImageCache.get(imagePath, (int)(width * HOVER_SCALE), (int)(height * HOVER_SCALE));
         
         // Set the initial display to the normal-sized image
         setImage(normalImage);
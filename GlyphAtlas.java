@@ -0,0 +1,135 @@
+import greenfoot.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pre-rendered outlined digits and labels in one text style, for scores and
+ * timers that change often.
+ *
+ * Numbers are drawn digit by digit from cached glyphs, so updating a score or
+ * a timer blits a few small images and allocates nothing. Each digit keeps its
+ * outline and its fill as separate layers, and a number draws all outlines
+ * before any fill, so one digit's outline never covers its neighbour.
+ *
+ * Positions work like OutlinedText: (x, y) is the top-left of the outlined
+ * image, and the letters start 2 pixels in.
+ */
+public class GlyphAtlas {
+    private static final int OUTLINE = 2;
+    private static final Color TRANSPARENT = new Color(0, 0, 0, 0);
+
+    private static final Map<String, GlyphAtlas> atlases = new HashMap<String, GlyphAtlas>();
+
+    private final Color mainColor, outlineColor;
+    private final int size;
+
+    private final GreenfootImage[] digitOutlines = new GreenfootImage[10];
+    private final GreenfootImage[] digitFills = new GreenfootImage[10];
+    private final int[] digitAdvance = new int[10];
+    private final Map<String, GreenfootImage> labels = new HashMap<String, GreenfootImage>();
+
+    // Digits of the number being drawn, least significant first
+    private final int[] digits = new int[10];
+
+    /**
+     * Returns the shared atlas for a text style, building it the first time.
+     */
+    public static GlyphAtlas get(Color mainColor, Color outlineColor, int size) {
+        String key = size + ":" + mainColor.getRed() + "," + mainColor.getGreen() + "," + mainColor.getBlue() + "," + mainColor.getAlpha()
+            + ":" + outlineColor.getRed() + "," + outlineColor.getGreen() + "," + outlineColor.getBlue() + "," + outlineColor.getAlpha();
+        GlyphAtlas atlas = atlases.get(key);
+        if (atlas == null) {
+            atlas = new GlyphAtlas(mainColor, outlineColor, size);
+            atlases.put(key, atlas);
+        }
+        return atlas;
+    }
+
+    private GlyphAtlas(Color mainColor, Color outlineColor, int size) {
+        this.mainColor = mainColor;
+        this.outlineColor = outlineColor;
+        this.size = size;
+
+        for (int d = 0; d < 10; d++) {
+            String s = String.valueOf(d);
+            // Outline layer: the digit grown by the outline, all in the outline color
+            digitOutlines[d] = OutlinedText.get(s, outlineColor, outlineColor, size);
+            digitFills[d] = ImageMemoryTracker.track(this, new GreenfootImage(s, size, mainColor, TRANSPARENT));
+            digitAdvance[d] = digitFills[d].getWidth();
+        }
+    }
+
+    /**
+     * Width of a label without its outline padding, so the next item can follow it.
+     */
+    public int labelAdvance(String label) {
+        return label(label).getWidth() - OUTLINE * 2;
+    }
+
+    /**
+     * Width of a number without its outline padding.
+     */
+    public int numberAdvance(int value) {
+        int count = split(value);
+        int width = value < 0 ? labelAdvance("-") : 0;
+        for (int i = 0; i < count; i++) width += digitAdvance[digits[i]];
+        return width;
+    }
+
+    // Height of the outlined glyphs
+    public int getHeight() {
+        return digitOutlines[0].getHeight();
+    }
+
+    /**
+     * Draws a fixed label, rendering it only the first time it is used.
+     *
+     * @return The x where the next item should be drawn
+     */
+    public int drawLabel(GreenfootImage surface, String label, int x, int y) {
+        surface.drawImage(label(label), x, y);
+        return x + labelAdvance(label);
+    }
+
+    /**
+     * Draws a whole number from the cached digits.
+     *
+     * @return The x where the next item should be drawn
+     */
+    public int drawNumber(GreenfootImage surface, int value, int x, int y) {
+        if (value < 0) x = drawLabel(surface, "-", x, y);
+
+        int count = split(value);
+        int cx = x;
+        for (int i = count - 1; i >= 0; i--) {
+            surface.drawImage(digitOutlines[digits[i]], cx, y);
+            cx += digitAdvance[digits[i]];
+        }
+        cx = x;
+        for (int i = count - 1; i >= 0; i--) {
+            surface.drawImage(digitFills[digits[i]], cx + OUTLINE, y + OUTLINE);
+            cx += digitAdvance[digits[i]];
+        }
+        return cx;
+    }
+
+    private GreenfootImage label(String label) {
+        GreenfootImage img = labels.get(label);
+        if (img == null) {
+            img = OutlinedText.get(label, mainColor, outlineColor, size);
+            labels.put(label, img);
+        }
+        return img;
+    }
+
+    // Fills digits[] with the decimal digits of |value|; returns how many there are
+    private int split(int value) {
+        long v = Math.abs((long) value);
+        int count = 0;
+        do {
+            digits[count++] = (int) (v % 10);
+            v /= 10;
+        } while (v > 0);
+        return count;
+    }
+}
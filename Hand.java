@@ -5,7 +5,7 @@ import greenfoot.*;
  * Controls: W (bounce), A (left), S (down), D (right), Space (jump higher)
  * Can also operate in CPU mode for AI defense
  */
-public class Hand extends Actor
+public class Hand extends PhysicsActor
 {
     private double velocityX = 0;
     private double velocityY = 0;
@@ -34,12 +34,10 @@ public class Hand extends Actor
         this.cpuMode = isCPU;
         this.difficulty = diff;
         
-        GreenfootImage handImage = new GreenfootImage("images/hand.png");
-        handImage.scale(70, 70);
-        setImage(handImage);
+        setImage(SpriteAtlas.get(SpriteAtlas.Pose.HAND, false));
     }
 
-    public void act()
+    protected void step()
     {
         // Route to appropriate input handler
         if (cpuMode) {
@@ -167,16 +165,16 @@ public class Hand extends Actor
         velocityX *= friction;
         
         // Update position
-        setLocation(getX() + (int) velocityX, getY() + (int) velocityY);
+        moveBy(velocityX, velocityY);
     }
 
     private void checkGround()
     {
         int groundY = getWorld().getHeight() - 45;
 
-        if (getY() >= groundY)
+        if (getExactY() >= groundY)
         {
-            setLocation(getX(), groundY);
+            setExactLocation(getExactX(), groundY);
             velocityY = 0;
             onGround = true;
             this.groundY = getY();
@@ -190,21 +188,21 @@ public class Hand extends Actor
     private void checkBounds()
     {
         // Keep hand within left/right bounds
-        if (getX() <= 25)
+        if (getExactX() <= 25)
         {
-            setLocation(25, getY());
+            setExactLocation(25, getExactY());
             velocityX = 0;
         }
-        if (getX() >= getWorld().getWidth() - 25)
+        if (getExactX() >= getWorld().getWidth() - 25)
         {
-            setLocation(getWorld().getWidth() - 25, getY());
+            setExactLocation(getWorld().getWidth() - 25, getExactY());
             velocityX = 0;
         }
         
         // Bounce off ceiling
-        if (getY() <= 25)
+        if (getExactY() <= 25)
         {
-            setLocation(getX(), 25);
+            setExactLocation(getExactX(), 25);
             velocityY = Math.abs(velocityY) * 0.5;
         }
     }
@@ -217,19 +215,11 @@ public class Hand extends Actor
         Basketball ball = balls.get(0);
         // Flip hand sprite to face the ball
         boolean ballOnRight = ball.getX() > getX();
-        GreenfootImage img = getImage();
 
-        if (ballOnRight && facingLeft)
+        if (ballOnRight == facingLeft)
         {
-            img.mirrorHorizontally();
-            facingLeft = false;
-            setImage(img);
-        }
-        else if (!ballOnRight && !facingLeft)
-        {
-            img.mirrorHorizontally();
-            facingLeft = true;
-            setImage(img);
+            facingLeft = !ballOnRight;
+            setImage(SpriteAtlas.get(SpriteAtlas.Pose.HAND, ballOnRight));
         }
     }
 
@@ -0,0 +1,153 @@
+import greenfoot.*;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Heads-up text drawn straight onto a world background.
+ *
+ * The layer keeps a pristine copy of the background. When a field's value
+ * changes, only the rectangle the field covered is restored from that copy
+ * and the new text is drawn in its place. Frames where nothing changed cost
+ * nothing: no blits and no new images.
+ *
+ * Numeric fields draw their label once and then only redraw the number, from
+ * the digits in a GlyphAtlas, so a ticking timer allocates nothing. Their
+ * labels should end in a space so the number never touches them.
+ */
+public class HudLayer {
+    private final GreenfootImage canvas;
+    private final GreenfootImage pristine;
+    private final List<Field> fields = new ArrayList<Field>();
+
+    /**
+     * One piece of HUD text, such as "Score: 12".
+     */
+    public class Field {
+        private final String label;
+        private final int x, y;
+        private final Color mainColor, outlineColor;
+        private final int size;
+
+        private boolean drawn = false;
+        private int intValue;
+        private String stringValue;
+
+        // Area covered by the text currently drawn
+        private int width, height;
+
+        // Where the number of a numeric field starts, and the width it covers
+        private int numberX, numberWidth;
+
+        private Field(String label, int x, int y, Color mainColor, Color outlineColor, int size) {
+            this.label = label;
+            this.x = x;
+            this.y = y;
+            this.mainColor = mainColor;
+            this.outlineColor = outlineColor;
+            this.size = size;
+        }
+
+        /**
+         * Shows the label followed by the number, redrawing only if it changed.
+         */
+        public void set(int value) {
+            if (drawn && stringValue == null && value == intValue) return;
+            GlyphAtlas glyphs = GlyphAtlas.get(mainColor, outlineColor, size);
+
+            if (drawn && stringValue == null) {
+                // Label is already there, so only the number is replaced
+                restore(numberX, y, numberWidth, height);
+            } else {
+                erase();
+                numberX = glyphs.drawLabel(canvas, label, x, y);
+                height = glyphs.getHeight();
+            }
+            int end = glyphs.drawNumber(canvas, value, numberX, y);
+            numberWidth = end - numberX + 4;
+            width = end - x + 4;
+            intValue = value;
+            stringValue = null;
+            drawn = true;
+        }
+
+        /**
+         * Shows the label followed by the text, redrawing only if it changed.
+         */
+        public void set(String value) {
+            if (drawn && value.equals(stringValue)) return;
+            stringValue = value;
+            redraw(label + value);
+        }
+
+        private void redraw(String text) {
+            erase();
+            GreenfootImage img = OutlinedText.get(text, mainColor, outlineColor, size);
+            canvas.drawImage(img, x, y);
+            width = img.getWidth();
+            height = img.getHeight();
+            drawn = true;
+        }
+
+        private void erase() {
+            if (drawn) restore(x, y, width, height);
+            drawn = false;
+        }
+
+        // Draws the current value again, after the canvas under it was replaced
+        private void repaint() {
+            if (!drawn) return;
+            drawn = false;
+            if (stringValue != null) {
+                redraw(label + stringValue);
+            } else {
+                set(intValue);
+            }
+        }
+    }
+
+    /**
+     * @param canvas The world background the HUD is drawn on; must be a private copy
+     * @param pristine The same background without any HUD, used to erase old text
+     */
+    public HudLayer(GreenfootImage canvas, GreenfootImage pristine) {
+        this.canvas = canvas;
+        this.pristine = pristine;
+    }
+
+    /**
+     * Adds a field whose text starts at (x, y). Nothing is drawn until it is set.
+     */
+    public Field addField(String label, int x, int y, Color mainColor, Color outlineColor, int size) {
+        Field field = new Field(label, x, y, mainColor, outlineColor, size);
+        fields.add(field);
+        return field;
+    }
+
+    /**
+     * Erases every field, leaving the pristine background.
+     */
+    public void clear() {
+        for (Field field : fields) field.erase();
+    }
+
+    /**
+     * Copies the whole pristine background back and draws every field on it
+     * again, for when the pristine image itself has changed.
+     */
+    public void refresh() {
+        restore(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (Field field : fields) field.repaint();
+    }
+
+    /**
+     * Copies a rectangle of the pristine background back onto the canvas.
+     */
+    public void restore(int x, int y, int width, int height) {
+        Graphics2D g = canvas.getAwtImage().createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(pristine.getAwtImage(), x, y, x + width, y + height, x, y, x + width, y + height, null);
+        g.dispose();
+    }
+}
@@ -0,0 +1,308 @@
+import greenfoot.*;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide cache of decoded and scaled images.
+ *
+ * Images are keyed by path, target size and mirroring, so each variant is only
+ * decoded and scaled once per session. The cache keeps the most recently used
+ * images up to a fixed memory bound and evicts the least recently used ones.
+ *
+ * Files are read from the memory-mapped asset pack when it exists. Images listed
+ * in the baked asset manifest are loaded at their display size
+ * instead of being decoded at full size and scaled down.
+ *
+ * Large one-shot images can be released once they are off screen. They then
+ * sit behind a soft reference, so the garbage collector may reclaim them, and
+ * come back for free if they are asked for again before that happens.
+ *
+ * Images returned by get() are shared between every caller and must be treated
+ * as read-only. Use copy() when the image is going to be drawn on.
+ */
+public class ImageCache {
+    // Upper bound on decoded pixels kept alive by the cache (ARGB, 4 bytes per pixel)
+    private static final long MAX_BYTES = 64L * 1024 * 1024;
+
+    // Originals larger than this are dropped once their scaled variant is made
+    private static final long MAX_SOURCE_BYTES = 1024L * 1024;
+
+    // Access-ordered map so iteration starts at the least recently used entry
+    private static final LinkedHashMap<String, GreenfootImage> images =
+        new LinkedHashMap<String, GreenfootImage>(64, 0.75f, true);
+
+    // Released images, kept only as long as memory allows
+    private static final HashMap<String, SoftReference<GreenfootImage>> released =
+        new HashMap<String, SoftReference<GreenfootImage>>();
+
+    private static long bytes = 0;
+    private static int hits = 0;
+    private static int misses = 0;
+    private static int evictions = 0;
+
+    private ImageCache() {
+    }
+
+    /**
+     * Returns the image at its original size.
+     *
+     * @param path The file path to the image resource
+     * @return The shared decoded image
+     */
+    public static GreenfootImage get(String path) {
+        return get(path, -1, -1, false);
+    }
+
+    /**
+     * Returns the image scaled to the given size.
+     *
+     * @param path The file path to the image resource
+     * @param width The desired width of the image
+     * @param height The desired height of the image
+     * @return The shared scaled image
+     */
+    public static GreenfootImage get(String path, int width, int height) {
+        return get(path, width, height, false);
+    }
+
+    /**
+     * Returns the image scaled to the given size and optionally mirrored horizontally.
+     *
+     * @param path The file path to the image resource
+     * @param width The desired width of the image, or -1 for the original width
+     * @param height The desired height of the image, or -1 for the original height
+     * @param mirrored true to mirror the image horizontally
+     * @return The shared image variant
+     */
+    public static GreenfootImage get(String path, int width, int height, boolean mirrored) {
+        String name = normalize(path);
+        String key = key(name, width, height, mirrored);
+
+        synchronized (ImageCache.class) {
+            GreenfootImage img = images.get(key);
+            if (img != null) {
+                hits++;
+                return img;
+            }
+
+            // A released image that has not been collected yet is as good as a hit
+            SoftReference<GreenfootImage> ref = released.remove(key);
+            img = ref == null ? null : ref.get();
+            if (img != null) {
+                hits++;
+                return put(key, img);
+            }
+            misses++;
+        }
+
+        // Decode outside the lock so preloader threads can work in parallel
+        GreenfootImage img;
+        if (mirrored) {
+            // Mirror a copy of the unmirrored variant
+            img = ImageMemoryTracker.track("ImageCache", new GreenfootImage(get(name, width, height, false)));
+            img.mirrorHorizontally();
+        } else if (width > 0 && height > 0 && AssetManifest.lookup(name, width, height) != null) {
+            // Pre-scaled by the asset baker, either as its own file or as an atlas region
+            AssetManifest.Entry baked = AssetManifest.lookup(name, width, height);
+            if (baked.inAtlas) {
+                img = ImageMemoryTracker.track("ImageCache", new GreenfootImage(width, height));
+                img.drawImage(get(baked.file), -baked.x, -baked.y);
+            } else {
+                img = decode(baked.file);
+            }
+        } else if (width > 0 && height > 0) {
+            // Scale the decoded original, keeping it only if it is small enough to reuse
+            GreenfootImage original = peek(key(name, -1, -1, false));
+            if (original == null) {
+                original = decode(name);
+                if (original.getWidth() == width && original.getHeight() == height) {
+                    return put(key(name, -1, -1, false), original);
+                }
+                if (sizeOf(original) <= MAX_SOURCE_BYTES) {
+                    original = put(key(name, -1, -1, false), original);
+                }
+            }
+            if (original.getWidth() == width && original.getHeight() == height) {
+                return original;
+            }
+            long start = System.nanoTime();
+            img = ImageMemoryTracker.track("ImageCache", new GreenfootImage(original));
+            img.scale(width, height);
+            StartupTelemetry.recordLoad("scale", key, start, sizeOf(img));
+        } else {
+            img = decode(name);
+        }
+
+        return put(key, img);
+    }
+
+    /**
+     * Returns true if the variant is already decoded.
+     */
+    public static synchronized boolean contains(String path, int width, int height, boolean mirrored) {
+        return images.containsKey(key(normalize(path), width, height, mirrored));
+    }
+
+    /**
+     * Returns a private copy of the scaled image that the caller may draw on.
+     *
+     * @param path The file path to the image resource
+     * @param width The desired width of the image
+     * @param height The desired height of the image
+     * @return A new image with the cached pixels
+     */
+    public static GreenfootImage copy(String path, int width, int height) {
+        return ImageMemoryTracker.track("ImageCache", new GreenfootImage(get(path, width, height, false)));
+    }
+
+    /**
+     * Returns an image the program made rather than loaded, such as a blended
+     * fade frame, if it is still cached under this name, or null if it was
+     * never made or has been evicted or collected since.
+     */
+    public static synchronized GreenfootImage getMade(String name, int width, int height) {
+        String key = key(name, width, height, false);
+        GreenfootImage img = images.get(key);
+        if (img == null) {
+            SoftReference<GreenfootImage> ref = released.remove(key);
+            img = ref == null ? null : ref.get();
+            if (img != null) put(key, img);
+        }
+        if (img != null) hits++;
+        else misses++;
+        return img;
+    }
+
+    /**
+     * Caches an image the program made under a name. It counts against the
+     * memory bound and can be evicted, or released with release(name, width,
+     * height), like a loaded image.
+     *
+     * @return The image cached under that name, which is img unless another was there first
+     */
+    public static GreenfootImage putMade(String name, GreenfootImage img) {
+        return put(key(name, img.getWidth(), img.getHeight(), false), img);
+    }
+
+    /**
+     * Drops the cache's strong reference to a variant so its pixels can be
+     * reclaimed once nothing else is using them.
+     *
+     * @param path The file path to the image resource
+     * @param width The width the image was requested at
+     * @param height The height the image was requested at
+     */
+    public static synchronized void release(String path, int width, int height) {
+        String name = normalize(path);
+        releaseKey(key(name, width, height, false));
+
+        // Asked for at its native size, the image is kept under the original's key instead
+        String original = key(name, -1, -1, false);
+        GreenfootImage img = images.get(original);
+        if (img != null && img.getWidth() == width && img.getHeight() == height) {
+            releaseKey(original);
+        }
+    }
+
+    private static void releaseKey(String key) {
+        GreenfootImage img = images.remove(key);
+        if (img == null) return;
+
+        bytes -= sizeOf(img);
+        released.put(key, new SoftReference<GreenfootImage>(img));
+
+        // Forget released images the collector has already taken
+        Iterator<SoftReference<GreenfootImage>> it = released.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().get() == null) it.remove();
+        }
+    }
+
+    public static synchronized int getHits() {
+        return hits;
+    }
+
+    public static synchronized int getMisses() {
+        return misses;
+    }
+
+    public static synchronized int getEvictions() {
+        return evictions;
+    }
+
+    // Decoded bytes currently held by the cache
+    public static synchronized long getBytes() {
+        return bytes;
+    }
+
+    public static synchronized String describe() {
+        return "ImageCache: " + images.size() + " images, " + (bytes / 1024) + " KB, " + released.size() + " released, "
+            + hits + " hits, " + misses + " misses, " + evictions + " evictions";
+    }
+
+    // Reads the loose file, or the asset pack when a build ships without one
+    // (decoding from the pack measured no faster from a cold start)
+    private static GreenfootImage decode(String name) {
+        long start = System.nanoTime();
+        GreenfootImage img;
+        try {
+            img = new GreenfootImage(name);
+        } catch (IllegalArgumentException missing) {
+            img = decodePacked(name);
+            if (img == null) throw missing;
+        }
+        StartupTelemetry.recordLoad("image", name, start, sizeOf(img));
+        return ImageMemoryTracker.track("ImageCache", img);
+    }
+
+    private static GreenfootImage decodePacked(String name) {
+        try {
+            return AssetPack.decode("images/" + name);
+        } catch (IOException e) {
+            System.out.println("Could not read " + name + " from the asset pack: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static synchronized GreenfootImage peek(String key) {
+        return images.get(key);
+    }
+
+    // Stores the image unless another thread finished the same variant first
+    private static synchronized GreenfootImage put(String key, GreenfootImage img) {
+        GreenfootImage existing = images.get(key);
+        if (existing != null) return existing;
+
+        images.put(key, img);
+        bytes += sizeOf(img);
+
+        // Drop least recently used images until we are back under budget
+        Iterator<Map.Entry<String, GreenfootImage>> it = images.entrySet().iterator();
+        while (bytes > MAX_BYTES && images.size() > 1 && it.hasNext()) {
+            Map.Entry<String, GreenfootImage> eldest = it.next();
+            if (eldest.getKey().equals(key)) continue;
+            bytes -= sizeOf(eldest.getValue());
+            it.remove();
+            evictions++;
+        }
+        return img;
+    }
+
+    private static long sizeOf(GreenfootImage img) {
+        return (long) img.getWidth() * img.getHeight() * 4;
+    }
+
+    // "images/bg.png" and "bg.png" resolve to the same file
+    private static String normalize(String path) {
+        if (path.startsWith("images/")) return path.substring("images/".length());
+        return path;
+    }
+
+    private static String key(String name, int width, int height, boolean mirrored) {
+        return name + "@" + width + "x" + height + (mirrored ? ":m" : "");
+    }
+}
@@ -0,0 +1,157 @@
+import greenfoot.*;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Accounts for the pixel memory of every GreenfootImage the game creates, at
+ * width x height x 4 bytes, grouped by the class that created it.
+ *
+ * Images are held weakly, so an image stops counting once the garbage collector
+ * reclaims it. A warning is printed when the live total goes over the budget,
+ * which can be set with setBudgetMB() or the imageBudgetMB system property.
+ */
+public class ImageMemoryTracker {
+    private static final long DEFAULT_BUDGET_MB = 96;
+
+    private static long budgetBytes = Long.getLong("imageBudgetMB", DEFAULT_BUDGET_MB) * 1024 * 1024;
+    private static boolean overBudget = false;
+
+    private static final ReferenceQueue<GreenfootImage> collected = new ReferenceQueue<GreenfootImage>();
+    private static final Set<Tracked> tracked = new HashSet<Tracked>();
+
+    // Per origin: live images, live bytes, images created, bytes created
+    private static final Map<String, long[]> origins = new LinkedHashMap<String, long[]>();
+    private static long liveBytes = 0;
+    private static long peakBytes = 0;
+
+    private static class Tracked extends WeakReference<GreenfootImage> {
+        final String origin;
+        final long bytes;
+
+        Tracked(GreenfootImage img, String origin, long bytes) {
+            super(img, collected);
+            this.origin = origin;
+            this.bytes = bytes;
+        }
+    }
+
+    private ImageMemoryTracker() {
+    }
+
+    /**
+     * Starts accounting for an image created by the given object.
+     *
+     * @param owner The object creating the image; its class is the origin
+     * @param img The new image
+     * @return The same image, so creation can be wrapped in place
+     */
+    public static GreenfootImage track(Object owner, GreenfootImage img) {
+        return track(originOf(owner.getClass()), img);
+    }
+
+    /**
+     * Starts accounting for an image under a named origin, for static code.
+     */
+    public static synchronized GreenfootImage track(String origin, GreenfootImage img) {
+        if (img == null) return null;
+        drain();
+
+        long bytes = (long) img.getWidth() * img.getHeight() * 4;
+        tracked.add(new Tracked(img, origin, bytes));
+        long[] o = origins.get(origin);
+        if (o == null) {
+            o = new long[4];
+            origins.put(origin, o);
+        }
+        o[0]++;
+        o[1] += bytes;
+        o[2]++;
+        o[3] += bytes;
+
+        liveBytes += bytes;
+        peakBytes = Math.max(peakBytes, liveBytes);
+        checkBudget();
+        return img;
+    }
+
+    public static synchronized void setBudgetMB(long megabytes) {
+        budgetBytes = megabytes * 1024 * 1024;
+        overBudget = false;
+    }
+
+    public static synchronized long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    // Bytes held by images that have not been collected yet
+    public static synchronized long getLiveBytes() {
+        drain();
+        return liveBytes;
+    }
+
+    public static synchronized long getPeakBytes() {
+        return peakBytes;
+    }
+
+    /**
+     * Returns one line per origin, largest live total first.
+     */
+    public static synchronized List<String> describe() {
+        drain();
+        List<Map.Entry<String, long[]>> entries = new ArrayList<Map.Entry<String, long[]>>(origins.entrySet());
+        Collections.sort(entries, new Comparator<Map.Entry<String, long[]>>() {
+            public int compare(Map.Entry<String, long[]> a, Map.Entry<String, long[]> b) {
+                return Long.compare(b.getValue()[1], a.getValue()[1]);
+            }
+        });
+
+        List<String> lines = new ArrayList<String>();
+        lines.add(String.format("Images: %.1f / %.0f MB live, peak %.1f MB", liveBytes / 1048576.0,
+            budgetBytes / 1048576.0, peakBytes / 1048576.0));
+        for (Map.Entry<String, long[]> e : entries) {
+            long[] o = e.getValue();
+            lines.add(String.format("%-16s %4d live %7.1f MB  (%d made, %.1f MB)", e.getKey(), o[0],
+                o[1] / 1048576.0, o[2], o[3] / 1048576.0));
+        }
+        return lines;
+    }
+
+    // Subtracts images the collector has reclaimed since the last call
+    private static void drain() {
+        Tracked t;
+        while ((t = (Tracked) collected.poll()) != null) {
+            if (!tracked.remove(t)) continue;
+            long[] o = origins.get(t.origin);
+            o[0]--;
+            o[1] -= t.bytes;
+            liveBytes -= t.bytes;
+        }
+    }
+
+    // Warns once per excursion over the budget
+    private static void checkBudget() {
+        if (!overBudget && liveBytes > budgetBytes) {
+            overBudget = true;
+            System.out.println("Warning: image memory over budget");
+            for (String line : describe()) System.out.println("  " + line);
+        } else if (overBudget && liveBytes < budgetBytes * 9 / 10) {
+            overBudget = false;
+        }
+    }
+
+    // Anonymous actors are reported under the class that declares them
+    private static String originOf(Class<?> c) {
+        while (c.isAnonymousClass() && c.getEnclosingClass() != null) {
+            c = c.getEnclosingClass();
+        }
+        return c.getSimpleName();
+    }
+}
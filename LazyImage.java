@@ -0,0 +1,41 @@
+import greenfoot.*;
+
+/**
+ * Handle to a large image that is only on screen for a short time, such as an
+ * instructions screen, a splash screen or the note popup.
+ *
+ * Nothing is loaded until get() is called. release() hands the pixels back to
+ * the ImageCache as a soft reference, so the garbage collector can reclaim them
+ * once the screen is gone. A later get() reuses them if they are still in
+ * memory and loads them again otherwise.
+ */
+public class LazyImage {
+    private final String path;
+    private final int width;
+    private final int height;
+
+    /**
+     * @param path The file path to the image resource
+     * @param width The width the image is displayed at
+     * @param height The height the image is displayed at
+     */
+    public LazyImage(String path, int width, int height) {
+        this.path = path;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Returns the shared image, loading it if needed. Treat it as read-only.
+     */
+    public GreenfootImage get() {
+        return ImageCache.get(path, width, height);
+    }
+
+    /**
+     * Lets the image be reclaimed. Call this once nothing is displaying it any more.
+     */
+    public void release() {
+        ImageCache.release(path, width, height);
+    }
+}
@@ -0,0 +1,30 @@
+import greenfoot.*;
+
+/**
+ * Thin progress bar shown on the splash screens while assets preload.
+ */
+public class LoadingBar extends Actor {
+    private static final int WIDTH = 300;
+    private static final int HEIGHT = 8;
+
+    private GreenfootImage img = ImageMemoryTracker.track(this, new GreenfootImage(WIDTH, HEIGHT));
+    private int filled = -1;
+
+    public LoadingBar() {
+        setImage(img);
+        act();
+    }
+
+    // Redraw only when the filled width changes
+    public void act() {
+        int width = (int)(AssetPreloader.getProgress() * WIDTH);
+        if (width == filled) return;
+        filled = width;
+
+        img.clear();
+        img.setColor(new Color(255, 255, 255, 60));
+        img.fillRect(0, 0, WIDTH, HEIGHT);
+        img.setColor(Color.WHITE);
+        img.fillRect(0, 0, width, HEIGHT);
+    }
+}
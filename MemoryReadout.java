@@ -0,0 +1,65 @@
+import greenfoot.*;
+import java.util.List;
+
+/**
+ * Live readout of ImageMemoryTracker in the top-left corner, toggled with F3
+ * in any world that calls MemoryReadout.checkToggle() from its act().
+ */
+public class MemoryReadout extends Actor {
+    private static final String TOGGLE_KEY = "f3";
+
+    // Frames between refreshes of the readout
+    private static final int REFRESH_FRAMES = 30;
+
+    // Static so the choice survives switching worlds
+    private static boolean visible = false;
+    private static boolean keyWasDown = false;
+
+    private int timer = 0;
+
+    /**
+     * Adds or removes the readout when the toggle key is pressed, and restores
+     * it in a new world if it was left on.
+     */
+    public static void checkToggle(World world) {
+        boolean down = Greenfoot.isKeyDown(TOGGLE_KEY);
+        if (down && !keyWasDown) visible = !visible;
+        keyWasDown = down;
+
+        List<MemoryReadout> shown = world.getObjects(MemoryReadout.class);
+        if (visible && shown.isEmpty()) {
+            MemoryReadout readout = new MemoryReadout();
+            world.addObject(readout, readout.getImage().getWidth() / 2 + 5, readout.getImage().getHeight() / 2 + 5);
+        } else if (!visible && !shown.isEmpty()) {
+            world.removeObjects(shown);
+        }
+    }
+
+    public MemoryReadout() {
+        redraw();
+    }
+
+    public void act() {
+        if (++timer >= REFRESH_FRAMES) {
+            timer = 0;
+            redraw();
+        }
+    }
+
+    private void redraw() {
+        List<String> lines = ImageMemoryTracker.describe();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines.size() && i < 12; i++) {
+            if (i > 0) text.append('\n');
+            text.append(lines.get(i));
+        }
+
+        boolean over = ImageMemoryTracker.getLiveBytes() > ImageMemoryTracker.getBudgetBytes();
+        GreenfootImage img = ImageMemoryTracker.track(this, new GreenfootImage(text.toString(), 14,
+            over ? Color.RED : Color.WHITE, new Color(0, 0, 0, 160)));
+
+        // Keep the top-left corner pinned when the readout changes size
+        setImage(img);
+        if (getWorld() != null) setLocation(img.getWidth() / 2 + 5, img.getHeight() / 2 + 5);
+    }
+}
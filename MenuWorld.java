@@ -10,7 +10,16 @@ public class MenuWorld extends World {
     DIFFICULTY
 }
     private int blackScreenTimer = 5;
+    
+    // Longest the second splash waits for the asset preloader (in frames)
+    private static final int MAX_PRELOAD_WAIT = 180;
     private GreenfootImage bg;
+
+    // Screens shown once, released as soon as they are replaced
+    private LazyImage blackScreen = new LazyImage("images/blackscreen.png", 1100, 600);
+    private LazyImage productionSplash = new LazyImage("images/production_splash.png", 1100, 600);
+    private LazyImage projectSplash = new LazyImage("images/project_splash.png", 1100, 600);
+    private LazyImage noteImage = new LazyImage("images/note.png", 1000, 330);
     private MenuState currentState = MenuState.SPLASH_1;
 
     // Logo always top
@@ -40,39 +49,43 @@ public class MenuWorld extends World {
 
     // Timing and audio
     private int splashTimer = 0;
-    private GreenfootSound bgMusic = new GreenfootSound("bg_loop.wav");
     
     // Pool of random backgrounds for menu screens
     private String[] backgroundImages = {"images/badminton_bg_normal.png", "images/bg.png", "images/bg2.png"};
 
     public MenuWorld() {
         super(1100, 600, 1);
+        StartupTelemetry.start();
+        StartupTelemetry.mark("menu created");
+        AssetPreloader.start();
         showBlackScreen();
     }
 
     // Display black screen before splash screens
     private void showBlackScreen() {
-        GreenfootImage black = new GreenfootImage("images/blackscreen.png");
-        black.scale(getWidth(), getHeight());
-        setBackground(black);
+        setBackground(blackScreen.get());
         currentState = MenuState.BLACK_SCREEN;
         blackScreenTimer = 5;
     }
 
     // Show company production splash screen
     private void showFirstSplash() {
-        GreenfootImage splash1 = new GreenfootImage("images/production_splash.png");
-        splash1.scale(getWidth(), getHeight());
-        setBackground(splash1);
+        setBackground(productionSplash.get());
+        blackScreen.release();
         splashTimer = 40;
         currentState = MenuState.SPLASH_1;
+        StartupTelemetry.mark("first splash");
+        
+        // Show preload progress while the splash screens run
+        if (!AssetPreloader.isDone()) {
+            addObject(new LoadingBar(), getWidth() / 2, getHeight() - 40);
+        }
     }
 
     // Show project splash screen
     private void showSecondSplash() {
-        GreenfootImage splash2 = new GreenfootImage("images/project_splash.png");
-        splash2.scale(getWidth(), getHeight());
-        setBackground(splash2);
+        setBackground(projectSplash.get());
+        productionSplash.release();
         splashTimer = 40;
         currentState = MenuState.SPLASH_2;
     }
@@ -84,9 +97,7 @@ public class MenuWorld extends World {
         selectedSport = null;
         isTwoPlayer = false;
 
-        if (!bgMusic.isPlaying()) {
-            bgMusic.playLoop();
-        }
+        MusicPlayer.play(MusicPlayer.MENU_TRACK);
 
         onePButton = new ClickableImage("images/1p_menu.png", 130, 110);
         twoPButton = new ClickableImage("images/2p_menu.png", 140, 110);
@@ -102,6 +113,7 @@ public class MenuWorld extends World {
         // Info button always accessible
         noteButton = new ClickableImage("images/note_button.png", 50, 50);
         addObject(noteButton, getWidth() - 40, getHeight() - 40);
+        StartupTelemetry.mark("menu interactive");
     }
 
     // Display sport selection menu
@@ -109,8 +121,7 @@ public class MenuWorld extends World {
         clearObjects();
         currentState = MenuState.SPORT;
 
-        pickSportImage = new GreenfootImage("images/pick_a_sport.png");
-        pickSportImage.scale(300, 35);
+        pickSportImage = ImageCache.get("images/pick_a_sport.png", 300, 35);
         getBackground().drawImage(pickSportImage, getWidth() / 2 - pickSportImage.getWidth() / 2, 300 + add_push_first + 10);
 
         basketballBtn = new ClickableImage("images/basketball_menuLogo.png", 120, 120);
@@ -136,8 +147,7 @@ public class MenuWorld extends World {
         clearObjects();
         currentState = MenuState.DIFFICULTY;
 
-        pickDifficultyImage = new GreenfootImage("images/pick_a_difficulty.png");
-        pickDifficultyImage.scale(300, 30);
+        pickDifficultyImage = ImageCache.get("images/pick_a_difficulty.png", 300, 30);
         getBackground().drawImage(pickDifficultyImage, getWidth() / 2 - pickDifficultyImage.getWidth() / 2, 300 + add_push_first + 20);
 
         easyBtn = new ClickableImage("images/easy.png", 110, 35);
@@ -189,7 +199,7 @@ public class MenuWorld extends World {
         
         // Play sound only when moving to a different button
         if (currentHoveredButton != null && currentHoveredButton != lastHoveredButton) {
-            new GreenfootSound("menu_sound.wav").play();
+            SoundBank.play("menu_sound.wav");
             lastHoveredButton = currentHoveredButton;
         } else if (currentHoveredButton == null) {
             lastHoveredButton = null;
@@ -259,9 +269,7 @@ public class MenuWorld extends World {
         if (noteActor == null) {
             noteActor = new Actor() {
                 {
-                    GreenfootImage note = new GreenfootImage("images/note.png");
-                    note.scale(1000, 330);
-                    setImage(note);
+                    setImage(noteImage.get());
                 }
             };
         }
@@ -274,12 +282,16 @@ public class MenuWorld extends World {
         if (noteActor != null) {
             removeObject(noteActor);
             noteVisible = false;
+
+            // Drop the popup so its image can be reclaimed until it is opened again
+            noteActor = null;
+            noteImage.release();
         }
     }
 
     // Transition to game world with selected sport and difficulty
     private void startGame(String difficulty) {
-        bgMusic.stop();
+        MusicPlayer.stop();
 
         if ("basketball".equals(selectedSport)) {
             if (isTwoPlayer) Greenfoot.setWorld(new BasketballWorld());
@@ -300,16 +312,14 @@ public class MenuWorld extends World {
         removeObjects(getObjects(null));
         
         String randomBg = backgroundImages[(int)(Math.random() * backgroundImages.length)];
-        bg = new GreenfootImage(randomBg);
-        bg.scale(1100, 600);
+        // Private copy since menu captions are drawn onto the background
+        bg = ImageCache.copy(randomBg, 1100, 600);
         setBackground(bg);
 
         if (logoActor == null) {
             logoActor = new Actor() {
                 {
-                    GreenfootImage logo = new GreenfootImage("images/logo_3.png");
-                    logo.scale(350, 230);
-                    setImage(logo);
+                    setImage(ImageCache.get("images/logo_3.png", 350, 230));
                 }
             };
         }
@@ -318,10 +328,21 @@ public class MenuWorld extends World {
         noteVisible = false;
     }
 
+    // Hold the music while the scenario is paused
+    public void stopped() {
+        MusicPlayer.pause();
+    }
+    
+    public void started() {
+        if (startedMusic) MusicPlayer.resume();
+    }
+
     // Main game loop for menu state management
     public void act() {
+        MemoryReadout.checkToggle(this);
+
         if (!startedMusic) {
-            bgMusic.playLoop();
+            MusicPlayer.play(MusicPlayer.MENU_TRACK);
             startedMusic = true;
         }
 
@@ -333,22 +354,25 @@ public class MenuWorld extends World {
             return;
         }
 
-        // Countdown splash screen timers
+        // Countdown splash screen timers, holding the last splash until assets are loaded
         if (currentState == MenuState.SPLASH_1 || currentState == MenuState.SPLASH_2) {
-            if (--splashTimer <= 0) {
+            --splashTimer;
+            if (currentState == MenuState.SPLASH_2 && !AssetPreloader.isDone() && splashTimer > -MAX_PRELOAD_WAIT) {
+                return;
+            }
+            if (splashTimer <= 0) {
                 if (currentState == MenuState.SPLASH_1) {
                     showSecondSplash();
                 } else {
                     clearObjects();
                     logoActor = new Actor() {
                         {
-                            GreenfootImage logo = new GreenfootImage("images/logo_3.png");
-                            logo.scale(350, 230);
-                            setImage(logo);
+                            setImage(ImageCache.get("images/logo_3.png", 350, 230));
                         }
                     };
                     addObject(logoActor, getWidth() / 2 + 10, 160 + add_push_first);
                     showMainMenu();
+                    projectSplash.release();
                 }
             }
             return;
@@ -0,0 +1,141 @@
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.DataLine;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * Streams a looping music track from disk, or from the memory-mapped asset pack,
+ * in small chunks on its own thread.
+ *
+ * Only a few hundred KB of the track are ever resident, no matter how long it is
+ * or how often it is restarted. Playback is owned by this class rather than by a
+ * world, so the music carries on across MenuWorld instances.
+ */
+public class MusicPlayer {
+    public static final String MENU_TRACK = "bg_loop.wav";
+
+    // Bytes copied to the audio line per write
+    private static final int CHUNK_BYTES = 16 * 1024;
+
+    // Size of the buffered reader over the file
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    // How much audio the line buffers ahead, in seconds
+    private static final float LINE_BUFFER_SECONDS = 0.5f;
+
+    // Current streaming thread; an older thread exits as soon as it is replaced
+    private static volatile Thread thread;
+    private static String track;
+    private static volatile boolean paused = false;
+
+    private MusicPlayer() {
+    }
+
+    /**
+     * Starts looping the track, or does nothing if it is already playing.
+     *
+     * @param name The sound file name inside the sounds folder
+     */
+    public static synchronized void play(String name) {
+        if (thread != null && name.equals(track)) {
+            paused = false;
+            return;
+        }
+        stop();
+
+        final String file = name;
+        track = name;
+        paused = false;
+        thread = new Thread(new Runnable() {
+            public void run() {
+                stream(file);
+            }
+        }, "music-stream");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the music and releases the audio line.
+     */
+    public static synchronized void stop() {
+        Thread old = thread;
+        thread = null;
+        track = null;
+        if (old != null) old.interrupt();
+    }
+
+    // Holds playback while the Greenfoot scenario is paused
+    public static void pause() {
+        paused = true;
+    }
+
+    public static void resume() {
+        paused = false;
+    }
+
+    public static boolean isPlaying() {
+        return thread != null && !paused;
+    }
+
+    private static void stream(String name) {
+        SourceDataLine line = null;
+        byte[] chunk = new byte[CHUNK_BYTES];
+        try {
+            long start = System.nanoTime();
+            AudioInputStream in = open(name);
+            AudioFormat format = in.getFormat();
+            int lineBytes = (int)(format.getFrameRate() * format.getFrameSize() * LINE_BUFFER_SECONDS);
+            line = (SourceDataLine) AudioSystem.getLine(new DataLine.Info(SourceDataLine.class, format));
+            line.open(format, lineBytes);
+            line.start();
+            StartupTelemetry.recordLoad("music", name, start, lineBytes + CHUNK_BYTES + READ_BUFFER_BYTES);
+
+            while (isCurrent()) {
+                if (paused) {
+                    line.stop();
+                    while (paused && isCurrent()) Thread.sleep(50);
+                    line.start();
+                    continue;
+                }
+
+                int read = in.read(chunk, 0, chunk.length - chunk.length % format.getFrameSize());
+                if (read < 0) {
+                    // Reopen the file while the line still holds buffered audio, so the loop has no gap
+                    in.close();
+                    in = open(name);
+                    continue;
+                }
+                line.write(chunk, 0, read);
+            }
+            in.close();
+        } catch (InterruptedException e) {
+            // Stopped while paused
+        } catch (Exception e) {
+            System.out.println("Could not stream music " + name + ": " + e.getMessage());
+        } finally {
+            if (line != null) {
+                line.stop();
+                line.flush();
+                line.close();
+            }
+        }
+    }
+
+    private static boolean isCurrent() {
+        return thread == Thread.currentThread();
+    }
+
+    private static AudioInputStream open(String name) throws Exception {
+        // Loose files first, like ImageCache; the asset pack is already in memory, so it needs no buffering
+        InputStream raw = MusicPlayer.class.getClassLoader().getResourceAsStream("sounds/" + name);
+        if (raw != null) return AudioSystem.getAudioInputStream(new BufferedInputStream(raw, READ_BUFFER_BYTES));
+
+        InputStream packed = AssetPack.stream("sounds/" + name);
+        if (packed == null) throw new IllegalArgumentException("sounds/" + name + " not found");
+        return AudioSystem.getAudioInputStream(packed);
+    }
+}
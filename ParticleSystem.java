@@ -0,0 +1,244 @@
+import greenfoot.*;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+
+/**
+ * Short-lived effects such as confetti after a point, sparks off the rim,
+ * dust where a ball lands and a shiver along the net.
+ *
+ * Every particle lives in a set of preallocated arrays, one per property, and
+ * the whole system is a single actor whose image all particles are drawn onto
+ * in one pass. Spawning or updating particles allocates nothing. A fixed
+ * capacity and a per-frame spawn budget bound the work; effects asked for
+ * beyond them are dropped rather than slowing the game down.
+ *
+ * While nothing is alive the actor shows a 1x1 transparent image, so an idle
+ * system costs nothing to paint.
+ */
+public class ParticleSystem extends Actor {
+    // Most particles alive at once
+    private static final int CAPACITY = 600;
+
+    // Most particles started in one frame
+    private static final int SPAWN_BUDGET = 150;
+
+    // Colors, each kept at a few opacities so particles can fade out
+    private static final int WHITE = 0, RED = 1, YELLOW = 2, GREEN = 3, CYAN = 4, MAGENTA = 5, ORANGE = 6;
+    private static final int SPARK = 7, DUST = 8, DUST_DARK = 9;
+    private static final int FADE_STEPS = 8;
+    private static final java.awt.Color[][] shades = shades(new int[] {
+        0xFFFFFF, 0xFF3030, 0xFFE020, 0x30E050, 0x30D0FF, 0xFF40C0, 0xFF8C00,
+        0xFFE680, 0xBEAA8C, 0x8C7864
+    });
+
+    private static GreenfootImage idle;
+
+    private final int width, height;
+    private GreenfootImage canvas;
+    private Graphics2D g;
+
+    // Particle state, one entry per live particle in [0, count)
+    private final float[] x = new float[CAPACITY];
+    private final float[] y = new float[CAPACITY];
+    private final float[] vx = new float[CAPACITY];
+    private final float[] vy = new float[CAPACITY];
+    private final float[] gravity = new float[CAPACITY];
+    private final float[] drag = new float[CAPACITY];
+    private final int[] life = new int[CAPACITY];
+    private final int[] maxLife = new int[CAPACITY];
+    private final byte[] size = new byte[CAPACITY];
+    private final byte[] color = new byte[CAPACITY];
+    private int count = 0;
+    private int spawnedThisFrame = 0;
+
+    // Area drawn last frame, cleared before drawing the next one
+    private int dirtyLeft, dirtyTop, dirtyRight, dirtyBottom;
+
+    /**
+     * @param width The width of the world the effects are drawn over
+     * @param height The height of the world the effects are drawn over
+     */
+    public ParticleSystem(int width, int height) {
+        this.width = width;
+        this.height = height;
+        if (idle == null) {
+            idle = ImageMemoryTracker.track("ParticleSystem", new GreenfootImage(1, 1));
+            idle.setTransparency(0);
+        }
+        setImage(idle);
+    }
+
+    /**
+     * Adds the system covering the whole world. Add it after the actors it
+     * should be drawn over.
+     */
+    public void addTo(World world) {
+        world.addObject(this, width / 2, height / 2);
+    }
+
+    /**
+     * A burst of colored paper thrown upward, for a point or a basket.
+     */
+    public void confetti(int cx, int cy, int amount) {
+        for (int i = 0; i < amount; i++) {
+            double angle = Math.toRadians(200 + Greenfoot.getRandomNumber(140));
+            double speed = 4 + Greenfoot.getRandomNumber(60) / 10.0;
+            spawn(cx, cy, (float) (Math.cos(angle) * speed), (float) (Math.sin(angle) * speed),
+                0.15f, 0.97f, 70 + Greenfoot.getRandomNumber(40), 4 + Greenfoot.getRandomNumber(3),
+                RED + Greenfoot.getRandomNumber(ORANGE - RED + 1));
+        }
+    }
+
+    /**
+     * Quick bright sparks flying out in every direction, for a hit on the rim.
+     */
+    public void sparks(int cx, int cy, int amount) {
+        for (int i = 0; i < amount; i++) {
+            double angle = Math.toRadians(Greenfoot.getRandomNumber(360));
+            double speed = 2 + Greenfoot.getRandomNumber(50) / 10.0;
+            spawn(cx, cy, (float) (Math.cos(angle) * speed), (float) (Math.sin(angle) * speed),
+                0.2f, 0.9f, 12 + Greenfoot.getRandomNumber(10), 2,
+                Greenfoot.getRandomNumber(3) == 0 ? YELLOW : SPARK);
+        }
+    }
+
+    /**
+     * A low puff kicked up sideways, for a ball landing on the floor.
+     */
+    public void dust(int cx, int cy, int amount) {
+        for (int i = 0; i < amount; i++) {
+            float speed = (1 + Greenfoot.getRandomNumber(25) / 10f) * (i % 2 == 0 ? 1 : -1);
+            spawn(cx, cy, speed, -Greenfoot.getRandomNumber(15) / 10f,
+                0.03f, 0.92f, 20 + Greenfoot.getRandomNumber(15), 3 + Greenfoot.getRandomNumber(2),
+                Greenfoot.getRandomNumber(2) == 0 ? DUST : DUST_DARK);
+        }
+    }
+
+    /**
+     * Specks shaken off along a stretch of net, pushed the way the ball was going.
+     *
+     * @param direction Negative if the ball was moving left, positive if right
+     */
+    public void netShake(int netX, int top, int bottom, int direction, int amount) {
+        float push = direction < 0 ? -1 : 1;
+        for (int i = 0; i < amount; i++) {
+            int sy = top + Greenfoot.getRandomNumber(Math.max(1, bottom - top));
+            spawn(netX, sy, push * (0.5f + Greenfoot.getRandomNumber(20) / 10f), Greenfoot.getRandomNumber(11) / 10f - 0.5f,
+                0.05f, 0.88f, 10 + Greenfoot.getRandomNumber(10), 2, WHITE);
+        }
+    }
+
+    // Number of live particles
+    public int getCount() {
+        return count;
+    }
+
+    public void act() {
+        spawnedThisFrame = 0;
+        if (count == 0 && getImage() == idle) return;
+
+        // Particles move at the game's step rate, however often frames are drawn
+        int steps = SimulationClock.of(getWorld()).getSteps();
+        if (steps == 0) return;
+        for (int i = 0; i < steps; i++) step();
+        draw();
+    }
+
+    private void spawn(float px, float py, float pvx, float pvy, float pGravity, float pDrag, int frames, int pSize, int pColor) {
+        if (count == CAPACITY || spawnedThisFrame == SPAWN_BUDGET) return;
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        gravity[i] = pGravity;
+        drag[i] = pDrag;
+        life[i] = frames;
+        maxLife[i] = frames;
+        size[i] = (byte) pSize;
+        color[i] = (byte) pColor;
+        spawnedThisFrame++;
+    }
+
+    // Moves every particle one frame and drops the ones that are done
+    private void step() {
+        int i = 0;
+        while (i < count) {
+            if (--life[i] <= 0 || y[i] > height || x[i] < -10 || x[i] > width + 10) {
+                // Move the last particle into this slot so live ones stay packed
+                int last = --count;
+                x[i] = x[last];
+                y[i] = y[last];
+                vx[i] = vx[last];
+                vy[i] = vy[last];
+                gravity[i] = gravity[last];
+                drag[i] = drag[last];
+                life[i] = life[last];
+                maxLife[i] = maxLife[last];
+                size[i] = size[last];
+                color[i] = color[last];
+                continue;
+            }
+            vy[i] += gravity[i];
+            vx[i] *= drag[i];
+            vy[i] *= drag[i];
+            x[i] += vx[i];
+            y[i] += vy[i];
+            i++;
+        }
+    }
+
+    private void draw() {
+        if (canvas == null) {
+            canvas = ImageMemoryTracker.track(this, new GreenfootImage(width, height));
+            g = canvas.getAwtImage().createGraphics();
+        }
+
+        // Clear only what was drawn last frame
+        if (dirtyRight > dirtyLeft) {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(dirtyLeft, dirtyTop, dirtyRight - dirtyLeft, dirtyBottom - dirtyTop);
+            g.setComposite(AlphaComposite.SrcOver);
+        }
+
+        if (count == 0) {
+            // Nothing left: stop painting the full-size image
+            dirtyLeft = dirtyRight = 0;
+            setImage(idle);
+            return;
+        }
+
+        int left = width, top = height, right = 0, bottom = 0;
+        for (int i = 0; i < count; i++) {
+            int s = size[i];
+            int px = (int) x[i] - s / 2;
+            int py = (int) y[i] - s / 2;
+            // Full opacity for the first half of a particle's life, then fade out
+            int shade = Math.min(FADE_STEPS - 1, life[i] * 2 * FADE_STEPS / maxLife[i]);
+            g.setColor(shades[color[i]][shade]);
+            g.fillRect(px, py, s, s);
+
+            left = Math.min(left, px);
+            top = Math.min(top, py);
+            right = Math.max(right, px + s);
+            bottom = Math.max(bottom, py + s);
+        }
+        dirtyLeft = Math.max(0, left);
+        dirtyTop = Math.max(0, top);
+        dirtyRight = Math.min(width, right);
+        dirtyBottom = Math.min(height, bottom);
+
+        if (getImage() != canvas) setImage(canvas);
+    }
+
+    // Each color at FADE_STEPS opacities, from faint to solid
+    private static java.awt.Color[][] shades(int[] rgb) {
+        java.awt.Color[][] table = new java.awt.Color[rgb.length][FADE_STEPS];
+        for (int c = 0; c < rgb.length; c++) {
+            for (int s = 0; s < FADE_STEPS; s++) {
+                table[c][s] = new java.awt.Color((rgb[c] >> 16) & 0xff, (rgb[c] >> 8) & 0xff, rgb[c] & 0xff, 255 * (s + 1) / FADE_STEPS);
+            }
+        }
+        return table;
+    }
+}
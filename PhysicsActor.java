@@ -0,0 +1,118 @@
+import greenfoot.*;
+
+/**
+ * An actor that moves under physics stepped by its world's SimulationClock.
+ *
+ * Subclasses put what used to be their act() in step(). Each frame the actor
+ * takes as many steps as the clock says are due, then is drawn part way
+ * between its last two step positions, so motion stays smooth when frames and
+ * steps do not line up.
+ *
+ * The body's position is kept in doubles and only rounded when it is handed to
+ * Greenfoot, so motion slower than a pixel per step is not lost. Move with
+ * moveBy() and setExactLocation(), and clamp with
+ * setExactLocation(getExactX(), groundY). An integer setLocation() during
+ * step() puts the body exactly on that pixel, fraction and all.
+ *
+ * During step() the actor is at its real, simulated location, so collision
+ * checks see where it actually is. Between frames it sits at the drawn
+ * location, up to a step behind, so world code deciding game rules such as
+ * where a ball landed must read getExactX() and getExactY(), not getX() and
+ * getY(). A setLocation() from outside step(), such as a respawn or another
+ * actor pushing it, is taken as a jump to a new place with no interpolation.
+ */
+public abstract class PhysicsActor extends Actor {
+    // Simulated location after the latest step, and after the step before it
+    private double simX, simY;
+    private double prevX, prevY;
+    private boolean stepping = false;
+
+    /**
+     * Advances the actor by one fixed step of 1/60 of a second.
+     */
+    protected abstract void step();
+
+    // addObject() places the actor without going through setLocation()
+    protected void addedToWorld(World world) {
+        jumpTo(getX(), getY());
+    }
+
+    public final void act() {
+        // Back to the simulated location before stepping
+        sync();
+
+        int steps = SimulationClock.of(getWorld()).getSteps();
+        stepping = true;
+        for (int i = 0; i < steps; i++) {
+            prevX = simX;
+            prevY = simY;
+            step();
+            if (getWorld() == null) {
+                stepping = false;
+                return;
+            }
+        }
+        stepping = false;
+
+        render(SimulationClock.of(getWorld()).getAlpha());
+    }
+
+    public void setLocation(int x, int y) {
+        if (stepping) {
+            setExactLocation(x, y);
+        } else {
+            jumpTo(x, y);
+        }
+    }
+
+    // Exact simulated position
+    public double getExactX() {
+        return simX;
+    }
+
+    public double getExactY() {
+        return simY;
+    }
+
+    /**
+     * Puts the body at an exact position. Outside step() this is a jump.
+     */
+    protected void setExactLocation(double x, double y) {
+        if (!stepping) {
+            jumpTo(x, y);
+            return;
+        }
+        simX = x;
+        simY = y;
+        sync();
+
+        // The world keeps actors inside its edges; follow it if it moved us back in
+        if (getX() != Math.round(simX)) simX = getX();
+        if (getY() != Math.round(simY)) simY = getY();
+    }
+
+    /**
+     * Moves the body by an exact amount.
+     */
+    protected void moveBy(double dx, double dy) {
+        setExactLocation(simX + dx, simY + dy);
+    }
+
+    // Moves without interpolating from the old location
+    private void jumpTo(double x, double y) {
+        simX = prevX = x;
+        simY = prevY = y;
+        sync();
+    }
+
+    // Puts the Greenfoot actor at the simulated position, rounded to whole pixels
+    private void sync() {
+        super.setLocation((int) Math.round(simX), (int) Math.round(simY));
+    }
+
+    // Shows the actor between its last two step locations
+    private void render(double alpha) {
+        super.setLocation((int) Math.round(prevX + (simX - prevX) * alpha),
+                          (int) Math.round(prevY + (simY - prevY) * alpha));
+    }
+}
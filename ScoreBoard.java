@@ -1,37 +1,37 @@
 import greenfoot.*;
 public class ScoreBoard extends Actor {
+    private static final String LEFT_LABEL = "LEFT: ";
+    private static final String RIGHT_LABEL = "   |   RIGHT: ";
+
     private GreenfootImage img;
+    private GlyphAtlas glyphs = GlyphAtlas.get(Color.WHITE, Color.BLACK, 36);
+    
+    // Scores currently shown, so unchanged updates can be skipped
+    private int shownLeft = -1, shownRight = -1;
     
     public ScoreBoard() {
-        img = new GreenfootImage(400, 100);
+        img = ImageMemoryTracker.track(this, new GreenfootImage(400, 100));
         setImage(img);
         update(0, 0);
     }
     
     // Update the scoreboard display with new scores
     public void update(int leftScore, int rightScore) {
-        img.clear();
-        String text = "LEFT: " + leftScore + "   |   RIGHT: " + rightScore;
-        drawCenteredOutlinedText(img, text, Color.WHITE, Color.BLACK, 36);
-    }
-    
-    // Draw text with an outline effect for better visibility
-    private void drawCenteredOutlinedText(GreenfootImage surface, String text, Color mainColor, Color outlineColor, int size) {
-        GreenfootImage txt = new GreenfootImage(text, size, mainColor, new Color(0, 0, 0, 0));
-        GreenfootImage outline = new GreenfootImage(text, size, outlineColor, new Color(0, 0, 0, 0));
-        GreenfootImage combined = new GreenfootImage(txt.getWidth() + 4, txt.getHeight() + 4);
+        if (leftScore == shownLeft && rightScore == shownRight) return;
+        shownLeft = leftScore;
+        shownRight = rightScore;
         
-        // Draw outline by layering the outline text at offsets
-        for (int dx = -2; dx <= 2; dx++)
-            for (int dy = -2; dy <= 2; dy++)
-                combined.drawImage(outline, dx + 2, dy + 2);
+        img.clear();
         
-        // Draw main text on top of the outline
-        combined.drawImage(txt, 2, 2);
+        // Center the text on the scoreboard
+        int width = glyphs.labelAdvance(LEFT_LABEL) + glyphs.numberAdvance(leftScore)
+            + glyphs.labelAdvance(RIGHT_LABEL) + glyphs.numberAdvance(rightScore) + 4;
+        int x = (img.getWidth() - width) / 2 + 7;
+        int y = (img.getHeight() - glyphs.getHeight()) / 2;
         
-        // Center the combined text on the surface
-        int x = (surface.getWidth() - combined.getWidth()) / 2;
-        int y = (surface.getHeight() - combined.getHeight()) / 2;
-        surface.drawImage(combined, x + 7, y);
+        x = glyphs.drawLabel(img, LEFT_LABEL, x, y);
+        x = glyphs.drawNumber(img, leftScore, x, y);
+        x = glyphs.drawLabel(img, RIGHT_LABEL, x, y);
+        glyphs.drawNumber(img, rightScore, x, y);
     }
 }
\ No newline at end of file
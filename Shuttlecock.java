@@ -1,5 +1,5 @@
 import greenfoot.*;
-public class Shuttlecock extends Actor {
+public class Shuttlecock extends PhysicsActor {
     private double dx = 0;
     private double dy = 0;
     private final double GRAVITY = 0.3;
@@ -9,20 +9,23 @@ public class Shuttlecock extends Actor {
     private final double HIT_DISTANCE_MULTIPLIER = 1.5; // Controls hit distance strength
     private double rotation = 0;
     private GreenfootImage baseImage;
-    private boolean facingRight = true;
-    private GreenfootSound racketHitSound = new GreenfootSound("racket_sound.wav");
-    private GreenfootSound racketSmashSound = new GreenfootSound("racket_smash.wav");
+    
+    // Degrees between pre-rotated frames; must divide 360
+    private static final int ROTATION_STEP = 5;
+    
+    // Pre-rotated frames shared by every shuttlecock, filled in as angles come up
+    private static final GreenfootImage[] rotatedFrames = new GreenfootImage[360 / ROTATION_STEP];
+    private int shownFrame = -1;
 
     public Shuttlecock() {
-        baseImage = new GreenfootImage("shuttlecock.png");
-        baseImage.scale(35, 35);
+        baseImage = ImageCache.get("shuttlecock.png", 35, 35);
         setImage(baseImage);
         // Start with random horizontal direction and upward velocity
         dx = Greenfoot.getRandomNumber(2) == 0 ? -5 : 5;
         dy = -8;
     }
     
-    public void act() {
+    protected void step() {
         applyPhysics();
         updateRotation();
         checkCollisions();
@@ -39,31 +42,14 @@ public class Shuttlecock extends Actor {
         dx *= DRAG;
         dy *= DRAG;
         
-        setLocation(getX() + (int)dx, getY() + (int)dy);
+        moveBy(dx, dy);
         
         // Stop shuttlecock from going through ceiling
         int ceilingLimit = getImage().getHeight() / 2 + 40;
-        if (getY() < ceilingLimit) {
-            setLocation(getX(), ceilingLimit);
+        if (getExactY() < ceilingLimit) {
+            setExactLocation(getExactX(), ceilingLimit);
             dy = 0;
         }
-        
-        // Flip image based on direction of travel
-        if (dx > 0 && !facingRight) {
-            facingRight = true;
-            updateImageFacing();
-        } else if (dx < 0 && facingRight) {
-            facingRight = false;
-            updateImageFacing();
-        }
-    }
-    
-    private void updateImageFacing() {
-        GreenfootImage img = new GreenfootImage(baseImage);
-        if (!facingRight) {
-            img.mirrorHorizontally();
-        }
-        setImage(img);
     }
 
     private void updateRotation() {
@@ -74,10 +60,17 @@ public class Shuttlecock extends Actor {
             rotation = Math.toDegrees(angle);
         }
         
-        // Rotate image based on movement direction
-        GreenfootImage rotatedImage = new GreenfootImage(baseImage);
-        rotatedImage.rotate((int)rotation);
-        setImage(rotatedImage);
+        // Rotate image based on movement direction, only when the angle moves to another frame
+        int frame = Math.floorMod((int)Math.round(rotation / ROTATION_STEP), rotatedFrames.length);
+        if (frame == shownFrame) return;
+        shownFrame = frame;
+        
+        if (rotatedFrames[frame] == null) {
+            GreenfootImage rotatedImage = ImageMemoryTracker.track(this, new GreenfootImage(baseImage));
+            rotatedImage.rotate(frame * ROTATION_STEP);
+            rotatedFrames[frame] = rotatedImage;
+        }
+        setImage(rotatedFrames[frame]);
     }
     
     private void checkCollisions() {
@@ -94,8 +87,10 @@ public class Shuttlecock extends Actor {
         // Bounce off net
         BadmintonNet net = (BadmintonNet)getOneIntersectingObject(BadmintonNet.class);
         if (net != null) {
+            // Shake the net around where the shuttle hit it
+            ((BadmintonWorld) getWorld()).getEffects().netShake(net.getX(), getY() - 30, getY() + 30, (int) Math.signum(dx), 10);
             dx = -dx * BOUNCE_DAMPING;
-            setLocation(getX() + (dx > 0 ? 10 : -10), getY());
+            moveBy(dx > 0 ? 10 : -10, 0);
         }
         
         // Handle player racket collision
@@ -106,8 +101,7 @@ public class Shuttlecock extends Actor {
             
             if (player.isSwinging()) {
                 // Play smash sound for active swing
-                if (racketSmashSound.isPlaying()) racketSmashSound.stop();
-                racketSmashSound.play();
+                SoundBank.play("racket_smash.wav");
                 
                 // Calculate impact angle for directional control
                 double impactAngle = Math.atan2(relativeY, relativeX);
@@ -144,12 +138,10 @@ public class Shuttlecock extends Actor {
                 }
                 
                 // Move shuttle away from racket
-                setLocation(getX() + (int)(dx > 0 ? 25 : -25), 
-                           getY() + (int)(dy > 0 ? 25 : -25));
+                moveBy(dx > 0 ? 25 : -25, dy > 0 ? 25 : -25);
             } else {
                 // Play normal sound for stationary racket
-                if (racketHitSound.isPlaying()) racketHitSound.stop();
-                racketHitSound.play();
+                SoundBank.play("racket_sound.wav");
                 
                 // Gentle arc when racket is not actively swinging
                 int netX = getWorld().getWidth() / 2;
@@ -181,15 +173,14 @@ public class Shuttlecock extends Actor {
                 }
                 
                 // Move shuttle away from racket
-                setLocation(getX() + (int)(dx > 0 ? 15 : -15), 
-                           getY() - 10);
+                moveBy(dx > 0 ? 15 : -15, -10);
             }
         }
         
         // Stop at ground level
         int groundY = getWorld().getHeight() - GROUND_LEVEL_OFFSET;
-        if (getY() >= groundY) {
-            setLocation(getX(), groundY);
+        if (getExactY() >= groundY) {
+            setExactLocation(getExactX(), groundY);
             dy = 0;
             dx = 0;
         }
@@ -0,0 +1,84 @@
+import greenfoot.*;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Fixed-rate game time for one world.
+ *
+ * Physics runs in steps of 1/60 of a second, the rate every speed, gravity
+ * and drag constant was tuned at. Once per frame the world calls tick(), which
+ * adds the real time since the last frame to an accumulator and works out how
+ * many whole steps are due. A slow machine drawing 30 frames a second then
+ * takes two steps a frame, and a fast one takes a step only every other frame,
+ * so the game plays at the same speed either way.
+ *
+ * The time left over in the accumulator, as a fraction of a step, is the
+ * interpolation alpha that PhysicsActor uses to draw bodies between the last
+ * two steps.
+ */
+public class SimulationClock {
+    // Steps per second of game time
+    public static final int STEPS_PER_SECOND = 60;
+
+    private static final long STEP_NANOS = 1000000000L / STEPS_PER_SECOND;
+
+    // Most steps taken in one frame; after a pause or a long hitch the rest is dropped
+    private static final int MAX_STEPS_PER_FRAME = 5;
+
+    private static final Map<World, SimulationClock> clocks = new WeakHashMap<World, SimulationClock>();
+
+    private long lastTick = -1;
+    private long accumulator = 0;
+
+    // A world that never ticks gets one step a frame, the old behaviour
+    private int steps = 1;
+    private double alpha = 1;
+
+    /**
+     * Returns the clock of a world, creating it the first time.
+     */
+    public static SimulationClock of(World world) {
+        SimulationClock clock = clocks.get(world);
+        if (clock == null) {
+            clock = new SimulationClock();
+            clocks.put(world, clock);
+        }
+        return clock;
+    }
+
+    /**
+     * Advances the clock to now. Call once at the start of each World.act(),
+     * which Greenfoot runs before any actor acts.
+     */
+    public void tick() {
+        long now = System.nanoTime();
+        if (lastTick < 0) {
+            // First frame: take exactly one step
+            lastTick = now;
+            steps = 1;
+            alpha = 1;
+            return;
+        }
+        accumulator += now - lastTick;
+        lastTick = now;
+
+        steps = (int) (accumulator / STEP_NANOS);
+        if (steps > MAX_STEPS_PER_FRAME) {
+            steps = MAX_STEPS_PER_FRAME;
+            accumulator = 0;
+        } else {
+            accumulator -= steps * STEP_NANOS;
+        }
+        alpha = (double) accumulator / STEP_NANOS;
+    }
+
+    // Physics steps due this frame
+    public int getSteps() {
+        return steps;
+    }
+
+    // How far between the last step and the next one this frame is drawn, 0 to 1
+    public double getAlpha() {
+        return alpha;
+    }
+}
@@ -0,0 +1,199 @@
+import greenfoot.*;
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Central store for sound effects.
+ *
+ * Each clip is loaded once and keeps a small pool of voices so the same effect
+ * can overlap itself without creating new GreenfootSound objects. The total
+ * number of voices playing at once is capped; when the cap is hit the oldest
+ * playing voice is stopped to make room for the new one.
+ */
+public class SoundBank {
+    // Voices kept per clip, which is also how many times one clip can overlap itself
+    private static final int VOICES_PER_CLIP = 3;
+
+    // Voices allowed to play at the same time across all clips
+    private static final int MAX_VOICES = 8;
+
+    private static final Map<String, List<GreenfootSound>> clips = new HashMap<String, List<GreenfootSound>>();
+
+    // Voices started through play(), oldest first
+    private static final ArrayDeque<GreenfootSound> playing = new ArrayDeque<GreenfootSound>();
+
+    private static int plays = 0;
+    private static int drops = 0;
+    private static int failures = 0;
+
+    private SoundBank() {
+    }
+
+    /**
+     * Loads the first voice of a clip so the first play does not have to.
+     *
+     * @param name The sound file name, with or without the "sounds/" prefix
+     */
+    public static void preload(String name) {
+        name = normalize(name);
+        synchronized (SoundBank.class) {
+            if (clips.containsKey(name)) return;
+        }
+
+        // Load outside the lock so preloader threads do not block playback
+        GreenfootSound first = newVoice(name);
+        synchronized (SoundBank.class) {
+            if (clips.containsKey(name)) return;
+            List<GreenfootSound> voices = new ArrayList<GreenfootSound>(VOICES_PER_CLIP);
+            if (first != null) voices.add(first);
+            clips.put(name, voices);
+        }
+    }
+
+    /**
+     * Returns the clip's first voice for callers that control playback
+     * themselves, such as looping music.
+     */
+    public static synchronized GreenfootSound get(String name) {
+        List<GreenfootSound> voices = voices(normalize(name));
+        return voices.isEmpty() ? null : voices.get(0);
+    }
+
+    /**
+     * Plays a clip at full volume.
+     *
+     * @param name The sound file name, with or without the "sounds/" prefix
+     */
+    public static void play(String name) {
+        play(name, 100);
+    }
+
+    /**
+     * Plays a clip on a free voice, stealing the oldest voice if the clip or the
+     * whole bank has no voice to spare.
+     *
+     * @param name The sound file name, with or without the "sounds/" prefix
+     * @param volume Volume between 0 and 100
+     */
+    public static synchronized void play(String name, int volume) {
+        List<GreenfootSound> voices = voices(normalize(name));
+        if (voices.isEmpty()) return;
+
+        // Forget voices that have finished on their own
+        Iterator<GreenfootSound> it = playing.iterator();
+        while (it.hasNext()) {
+            if (!it.next().isPlaying()) it.remove();
+        }
+
+        GreenfootSound voice = null;
+        for (GreenfootSound v : voices) {
+            if (!v.isPlaying()) {
+                voice = v;
+                break;
+            }
+        }
+        if (voice == null && voices.size() < VOICES_PER_CLIP) {
+            voice = newVoice(normalize(name));
+            if (voice != null) voices.add(voice);
+        }
+        if (voice == null) {
+            // Every voice of this clip is busy, so restart the one that started first
+            for (GreenfootSound v : playing) {
+                if (voices.contains(v)) {
+                    voice = v;
+                    break;
+                }
+            }
+            if (voice == null) voice = voices.get(0);
+            steal(voice);
+        }
+
+        // Make room under the global cap
+        while (playing.size() >= MAX_VOICES) {
+            steal(playing.peekFirst());
+        }
+
+        try {
+            if (voice.getVolume() != volume) voice.setVolume(volume);
+            voice.play();
+            playing.addLast(voice);
+            plays++;
+        } catch (Throwable t) {
+            failures++;
+        }
+    }
+
+    public static synchronized int getPlays() {
+        return plays;
+    }
+
+    // Voices cut short to make room for newer ones
+    public static synchronized int getDrops() {
+        return drops;
+    }
+
+    public static synchronized String describe() {
+        return "SoundBank: " + clips.size() + " clips, " + playing.size() + " playing, "
+            + plays + " plays, " + drops + " drops, " + failures + " failures";
+    }
+
+    private static void steal(GreenfootSound voice) {
+        playing.remove(voice);
+        try {
+            voice.stop();
+        } catch (Throwable t) {
+            failures++;
+        }
+        drops++;
+    }
+
+    // Clip voices, loading the first one on demand; empty if the clip cannot be loaded
+    private static List<GreenfootSound> voices(String name) {
+        List<GreenfootSound> voices = clips.get(name);
+        if (voices == null) {
+            voices = new ArrayList<GreenfootSound>(VOICES_PER_CLIP);
+            GreenfootSound first = newVoice(name);
+            if (first != null) voices.add(first);
+            clips.put(name, voices);
+        }
+        return voices;
+    }
+
+    private static GreenfootSound newVoice(String name) {
+        try {
+            long start = System.nanoTime();
+            GreenfootSound voice = new GreenfootSound(name);
+            StartupTelemetry.recordLoad("sound", name, start, fileSize("sounds/" + name));
+            return voice;
+        } catch (Throwable t) {
+            System.out.println("Could not load sound " + name + ": " + t.getMessage());
+            synchronized (SoundBank.class) {
+                failures++;
+            }
+            return null;
+        }
+    }
+
+    // Size of the sound file, which for WAV is close to its decoded size; 0 if unknown
+    private static long fileSize(String path) {
+        try {
+            URL url = SoundBank.class.getClassLoader().getResource(path);
+            if (url != null && "file".equals(url.getProtocol())) return new File(url.toURI()).length();
+        } catch (Exception e) {
+            // Size is only for the startup report
+        }
+        return 0;
+    }
+
+    // "sounds/basket_rim.wav" and "basket_rim.wav" are the same clip
+    private static String normalize(String name) {
+        if (name.startsWith("sounds/")) return name.substring("sounds/".length());
+        return name;
+    }
+}
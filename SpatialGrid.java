@@ -0,0 +1,134 @@
+import greenfoot.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A uniform grid over the world that finds which boxes are near a point or
+ * area without looking at every box.
+ *
+ * Each actor is entered with a box in world pixels and listed in every cell
+ * that box covers. A query only looks at the cells its own box covers, so its
+ * cost depends on how crowded that part of the world is, not on how many
+ * actors there are in total. Meant for things that rarely move: moving one
+ * means calling put() again with its new box.
+ */
+public class SpatialGrid {
+    private final int cellSize;
+    private final int columns, rows;
+    private final List<List<Entry>> cells = new ArrayList<List<Entry>>();
+    private final Map<Actor, Entry> entries = new HashMap<Actor, Entry>();
+
+    // Reused by every query, so a query allocates nothing
+    private final List<Actor> found = new ArrayList<Actor>();
+    private int queryStamp = 0;
+
+    private static class Entry {
+        Actor actor;
+        int left, top, right, bottom;
+
+        // Last query that reported this entry, so one spanning several cells is reported once
+        int stamp = -1;
+    }
+
+    /**
+     * @param width World width in pixels
+     * @param height World height in pixels
+     * @param cellSize Side of a square cell, about the size of a typical box
+     */
+    public SpatialGrid(int width, int height, int cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (width + cellSize - 1) / cellSize);
+        this.rows = Math.max(1, (height + cellSize - 1) / cellSize);
+        for (int i = 0; i < columns * rows; i++) {
+            cells.add(new ArrayList<Entry>());
+        }
+    }
+
+    /**
+     * Adds an actor with the box it covers, from left/top inclusive to
+     * right/bottom exclusive, or moves it there if it is already in the grid.
+     * Putting an actor back in the same box does nothing.
+     */
+    public void put(Actor actor, int left, int top, int right, int bottom) {
+        Entry entry = entries.get(actor);
+        if (entry == null) {
+            entry = new Entry();
+            entry.actor = actor;
+            entries.put(actor, entry);
+        } else if (entry.left == left && entry.top == top && entry.right == right && entry.bottom == bottom) {
+            return;
+        } else {
+            unlink(entry);
+        }
+        entry.left = left;
+        entry.top = top;
+        entry.right = right;
+        entry.bottom = bottom;
+        link(entry);
+    }
+
+    /**
+     * Takes an actor out of the grid.
+     */
+    public void remove(Actor actor) {
+        Entry entry = entries.remove(actor);
+        if (entry != null) unlink(entry);
+    }
+
+    /**
+     * Returns every actor whose box overlaps the given box, each once. The
+     * list is reused by the next query, so read it before asking again.
+     */
+    public List<Actor> query(int left, int top, int right, int bottom) {
+        found.clear();
+        queryStamp++;
+        int c0 = column(left), c1 = column(right - 1);
+        int r0 = row(top), r1 = row(bottom - 1);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                List<Entry> cell = cells.get(r * columns + c);
+                for (int i = 0; i < cell.size(); i++) {
+                    Entry entry = cell.get(i);
+                    if (entry.stamp == queryStamp) continue;
+                    entry.stamp = queryStamp;
+                    if (left < entry.right && entry.left < right && top < entry.bottom && entry.top < bottom) {
+                        found.add(entry.actor);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    // Number of actors in the grid
+    public int size() {
+        return entries.size();
+    }
+
+    private void link(Entry entry) {
+        for (int r = row(entry.top); r <= row(entry.bottom - 1); r++) {
+            for (int c = column(entry.left); c <= column(entry.right - 1); c++) {
+                cells.get(r * columns + c).add(entry);
+            }
+        }
+    }
+
+    private void unlink(Entry entry) {
+        for (int r = row(entry.top); r <= row(entry.bottom - 1); r++) {
+            for (int c = column(entry.left); c <= column(entry.right - 1); c++) {
+                cells.get(r * columns + c).remove(entry);
+            }
+        }
+    }
+
+    // Cell column or row of a pixel; boxes past the edge of the world share the edge cells
+    private int column(int x) {
+        return Math.max(0, Math.min(columns - 1, Math.floorDiv(x, cellSize)));
+    }
+
+    private int row(int y) {
+        return Math.max(0, Math.min(rows - 1, Math.floorDiv(y, cellSize)));
+    }
+}
@@ -0,0 +1,55 @@
+import greenfoot.*;
+
+/**
+ * Every pose image of the players and the basketball hand, pre-scaled and
+ * pre-mirrored once and kept for the whole session.
+ *
+ * Actors switch poses by swapping references to these images, so changing
+ * pose never decodes, scales or mirrors anything. The images are shared and
+ * must never be drawn on or mirrored in place.
+ */
+public class SpriteAtlas {
+    /**
+     * A pose image and the size it is displayed at.
+     */
+    public enum Pose {
+        VOLLEYBALL_RECEIVE("volleyball-receive.png", 65, 65),
+        VOLLEYBALL_SPIKE("volleyball-spike.png", 65, 65),
+        HAND("hand.png", 70, 70),
+        RACKET_1P("1p_racket.png", 80, 120),
+        RACKET_1P_SWING("1p_racket-forward.png", 80, 120),
+        RACKET_2P("2p_racket.png", 80, 120),
+        RACKET_2P_SWING("2p_racket-forward.png", 80, 120);
+
+        private final String path;
+        private final int width, height;
+
+        Pose(String path, int width, int height) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    // [pose][0 = as drawn, 1 = mirrored], filled the first time each is asked for
+    private static final GreenfootImage[][] images = new GreenfootImage[Pose.values().length][2];
+
+    private SpriteAtlas() {
+    }
+
+    /**
+     * Returns the shared image for a pose.
+     *
+     * @param pose The pose to show
+     * @param mirrored true for the horizontally mirrored image
+     */
+    public static GreenfootImage get(Pose pose, boolean mirrored) {
+        int facing = mirrored ? 1 : 0;
+        GreenfootImage img = images[pose.ordinal()][facing];
+        if (img == null) {
+            img = ImageCache.get(pose.path, pose.width, pose.height, mirrored);
+            images[pose.ordinal()][facing] = img;
+        }
+        return img;
+    }
+}
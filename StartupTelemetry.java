@@ -0,0 +1,210 @@
+import java.io.File;
+import java.io.PrintWriter;
+import java.net.URL;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records where launch time goes: every image and sound load with its wall
+ * time, decoded bytes and thread, plus milestones such as the menu becoming
+ * interactive and the first game frame, and spans such as how long each world
+ * took to show its first frame.
+ *
+ * The report is written to startup-report.txt when the session exits, or
+ * whenever writeReport() is called. It goes next to the scenario's classes,
+ * which is the project folder in Greenfoot and the folder holding the jar in
+ * an exported build, not the working directory, which can be anywhere.
+ *
+ * Loads are only recorded until the first game frame, and each milestone and
+ * span only the first time it happens, so nothing grows for the rest of the
+ * session.
+ */
+public class StartupTelemetry {
+    public static final String REPORT_FILE = "startup-report.txt";
+
+    // Milestone that ends the startup; loads after it are not recorded
+    public static final String FIRST_GAME_FRAME = "first game frame";
+
+    // Most loads recorded, for a session that never reaches a game
+    private static final int MAX_LOADS = 1000;
+
+    // How many of the slowest loads the report lists
+    private static final int TOP_N = 15;
+
+    // Timestamps are relative to the first time this class is touched
+    private static final long launchNanos = System.nanoTime();
+
+    private static final List<Load> loads = new ArrayList<Load>();
+    private static final Map<String, Long> milestones = new LinkedHashMap<String, Long>();
+    private static final Map<String, Long> spans = new LinkedHashMap<String, Long>();
+    private static boolean hookInstalled = false;
+    private static boolean recording = true;
+
+    private static class Load {
+        String kind;
+        String name;
+        String thread;
+        long startNanos;
+        long nanos;
+        long bytes;
+    }
+
+    private StartupTelemetry() {
+    }
+
+    /**
+     * Installs the exit hook that writes the report. Safe to call more than once.
+     */
+    public static synchronized void start() {
+        if (hookInstalled) return;
+        hookInstalled = true;
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            public void run() {
+                writeReport();
+            }
+        }, "startup-report"));
+    }
+
+    /**
+     * Records one asset load on the calling thread.
+     *
+     * @param kind What was loaded, such as "image", "scale" or "sound"
+     * @param name Asset name
+     * @param startNanos System.nanoTime() when the load began
+     * @param bytes Decoded bytes the load produced, or 0 if unknown
+     */
+    public static void recordLoad(String kind, String name, long startNanos, long bytes) {
+        Load load = new Load();
+        load.kind = kind;
+        load.name = name;
+        load.thread = Thread.currentThread().getName();
+        load.startNanos = startNanos;
+        load.nanos = System.nanoTime() - startNanos;
+        load.bytes = bytes;
+        synchronized (StartupTelemetry.class) {
+            if (recording && loads.size() < MAX_LOADS) loads.add(load);
+        }
+    }
+
+    /**
+     * Marks a milestone. Only the first time each milestone is reached counts.
+     */
+    public static synchronized void mark(String milestone) {
+        if (!milestones.containsKey(milestone)) {
+            milestones.put(milestone, System.nanoTime());
+        }
+        if (milestone.equals(FIRST_GAME_FRAME)) recording = false;
+    }
+
+    /**
+     * Records how long something took, ending now. Only the first time each
+     * span is recorded counts, so a world that is built again is not.
+     *
+     * @param span What took the time, such as "BasketballWorld first frame"
+     * @param startNanos System.nanoTime() when it began
+     */
+    public static synchronized void recordSpan(String span, long startNanos) {
+        if (!spans.containsKey(span)) {
+            spans.put(span, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Milliseconds from launch to the milestone, or -1 if it has not happened yet.
+     */
+    public static synchronized long millisTo(String milestone) {
+        Long at = milestones.get(milestone);
+        return at == null ? -1 : (at - launchNanos) / 1000000;
+    }
+
+    /**
+     * Writes the report for this session so far.
+     */
+    public static synchronized void writeReport() {
+        File file = reportFile();
+        try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+            out.println("Startup report, " + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()));
+            out.println();
+
+            out.println("Milestones (ms after launch):");
+            for (Map.Entry<String, Long> m : milestones.entrySet()) {
+                out.println(String.format("  %8d  %s", (m.getValue() - launchNanos) / 1000000, m.getKey()));
+            }
+            out.println();
+
+            out.println("Spans (ms):");
+            for (Map.Entry<String, Long> s : spans.entrySet()) {
+                out.println(String.format("  %8d  %s", s.getValue() / 1000000, s.getKey()));
+            }
+            out.println();
+
+            // Totals per kind of load
+            Map<String, long[]> totals = new LinkedHashMap<String, long[]>();
+            for (Load load : loads) {
+                long[] t = totals.get(load.kind);
+                if (t == null) {
+                    t = new long[3];
+                    totals.put(load.kind, t);
+                }
+                t[0]++;
+                t[1] += load.nanos;
+                t[2] += load.bytes;
+            }
+            out.println("Loads by kind:");
+            long totalBytes = 0;
+            for (Map.Entry<String, long[]> t : totals.entrySet()) {
+                long[] v = t.getValue();
+                totalBytes += v[2];
+                out.println(String.format("  %-8s %4d loads  %7d ms  %8.1f MB", t.getKey(), v[0], v[1] / 1000000, v[2] / 1048576.0));
+            }
+            out.println(String.format("  Total decoded: %.1f MB", totalBytes / 1048576.0));
+            out.println();
+
+            // Time spent loading on each thread, to show what the preloader took off the game thread
+            Map<String, Long> threads = new LinkedHashMap<String, Long>();
+            for (Load load : loads) {
+                Long t = threads.get(load.thread);
+                threads.put(load.thread, (t == null ? 0 : t) + load.nanos);
+            }
+            out.println("Load time by thread:");
+            for (Map.Entry<String, Long> t : threads.entrySet()) {
+                out.println(String.format("  %7d ms  %s", t.getValue() / 1000000, t.getKey()));
+            }
+            out.println();
+
+            List<Load> slowest = new ArrayList<Load>(loads);
+            Collections.sort(slowest, new Comparator<Load>() {
+                public int compare(Load a, Load b) {
+                    return Long.compare(b.nanos, a.nanos);
+                }
+            });
+            out.println("Slowest " + Math.min(TOP_N, slowest.size()) + " loads:");
+            for (int i = 0; i < TOP_N && i < slowest.size(); i++) {
+                Load load = slowest.get(i);
+                out.println(String.format("  %6d ms  %8d KB  at %6d ms  %-6s %-22s %s", load.nanos / 1000000, load.bytes / 1024,
+                    (load.startNanos - launchNanos) / 1000000, load.kind, load.thread, load.name));
+            }
+        } catch (Exception e) {
+            System.out.println("Could not write " + file + ": " + e.getMessage());
+        }
+    }
+
+    // Next to the scenario's classes, or the working directory if they cannot be found
+    private static File reportFile() {
+        try {
+            URL url = StartupTelemetry.class.getProtectionDomain().getCodeSource().getLocation();
+            File where = new File(url.toURI());
+            File folder = where.isDirectory() ? where : where.getParentFile();
+            if (folder != null) return new File(folder, REPORT_FILE);
+        } catch (Exception e) {
+            // Fall back to the working directory
+        }
+        return new File(REPORT_FILE);
+    }
+}
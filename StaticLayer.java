@@ -0,0 +1,129 @@
+import greenfoot.*;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Court fixtures that stand still between events, such as the nets, the
+ * backboard and the obstacles, painted into one background image instead of
+ * being painted by Greenfoot as separate actors every frame.
+ *
+ * Each fixture stays in the world as an actor, so it keeps its position and
+ * its methods, but it shows no image and Greenfoot has nothing to paint for
+ * it. The layer draws every fixture onto a private copy of the court and only
+ * draws them again when rebake() is called after something moved, so the cost
+ * of a frame no longer grows with the number of fixtures.
+ *
+ * Greenfoot's collision checks cannot see a fixture without an image; use
+ * getNear() instead, which tests the fixture's sprite bounds. The bounds are
+ * kept in a SpatialGrid that is only updated when a fixture is added or the
+ * layer is rebaked, so a lookup costs what the fixtures near the actor cost,
+ * however many there are elsewhere.
+ */
+public class StaticLayer {
+    private final GreenfootImage base;
+    private final GreenfootImage image;
+    private final List<Actor> fixtures = new ArrayList<Actor>();
+    private final List<GreenfootImage> sprites = new ArrayList<GreenfootImage>();
+
+    // Cells of about a fixture's size
+    private static final int CELL_SIZE = 100;
+    private final SpatialGrid grid;
+
+    /**
+     * @param base The court without fixtures; it is never drawn on
+     */
+    public StaticLayer(GreenfootImage base) {
+        this.base = base;
+        this.image = ImageMemoryTracker.track(this, new GreenfootImage(base));
+        this.grid = new SpatialGrid(base.getWidth(), base.getHeight(), CELL_SIZE);
+    }
+
+    /**
+     * Moves an actor that is already in the world into the layer. Its current
+     * image is drawn into the layer and the actor is left without one.
+     */
+    public void add(Actor fixture) {
+        GreenfootImage sprite = fixture.getImage();
+        fixtures.add(fixture);
+        sprites.add(sprite);
+        fixture.setImage((GreenfootImage) null);
+        draw(fixture, sprite);
+        index(fixture, sprite);
+    }
+
+    /**
+     * Takes a fixture out of the layer and gives it back its image.
+     */
+    public void remove(Actor fixture) {
+        int i = fixtures.indexOf(fixture);
+        if (i < 0) return;
+        fixture.setImage(sprites.get(i));
+        fixtures.remove(i);
+        sprites.remove(i);
+        grid.remove(fixture);
+        rebake();
+    }
+
+    /**
+     * Draws the court and every fixture again, and finds them in their new
+     * places. Call once after moving fixtures.
+     */
+    public void rebake() {
+        // Replace the pixels outright; blending would keep old fixtures showing through
+        Graphics2D g = image.getAwtImage().createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(base.getAwtImage(), 0, 0, null);
+        g.dispose();
+        for (int i = 0; i < fixtures.size(); i++) {
+            draw(fixtures.get(i), sprites.get(i));
+            index(fixtures.get(i), sprites.get(i));
+        }
+    }
+
+    /**
+     * The court with every fixture on it. Callers may show it but not draw on it.
+     */
+    public GreenfootImage getImage() {
+        return image;
+    }
+
+    // Number of fixtures in the layer
+    public int size() {
+        return fixtures.size();
+    }
+
+    /**
+     * Returns every fixture in the world whose sprite overlaps the actor's
+     * image, in one lookup. The list is reused by the next lookup.
+     */
+    public List<Actor> getNear(Actor actor) {
+        GreenfootImage img = actor.getImage();
+        double angle = Math.toRadians(actor.getRotation());
+        double cos = Math.abs(Math.cos(angle));
+        double sin = Math.abs(Math.sin(angle));
+        int w = (int) Math.round(img.getWidth() * cos + img.getHeight() * sin);
+        int h = (int) Math.round(img.getWidth() * sin + img.getHeight() * cos);
+        int left = actor.getX() - w / 2;
+        int top = actor.getY() - h / 2;
+
+        List<Actor> near = grid.query(left, top, left + w, top + h);
+        for (int i = near.size() - 1; i >= 0; i--) {
+            if (near.get(i).getWorld() == null) near.remove(i);
+        }
+        return near;
+    }
+
+    // Files a fixture's sprite bounds in the grid; unchanged bounds cost nothing
+    private void index(Actor fixture, GreenfootImage sprite) {
+        int left = fixture.getX() - sprite.getWidth() / 2;
+        int top = fixture.getY() - sprite.getHeight() / 2;
+        grid.put(fixture, left, top, left + sprite.getWidth(), top + sprite.getHeight());
+    }
+
+    // Draws a sprite where Greenfoot would paint it for the actor
+    private void draw(Actor fixture, GreenfootImage sprite) {
+        image.drawImage(sprite, fixture.getX() - sprite.getWidth() / 2, fixture.getY() - sprite.getHeight() / 2);
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Time-of-impact tests for a moving circle, for balls that travel further in
+ * one step than the thing they might hit is thick.
+ *
+ * A test sweeps the circle along its whole move instead of checking where it
+ * ends up, so it cannot pass through a thin net or rim between two steps. A
+ * successful test leaves the fraction of the move at which the circle first
+ * touches in time, from 0 to 1, and the unit normal of the surface it touches
+ * in normalX and normalY. One instance can be reused for every test.
+ */
+public class SweptCircle {
+    // Fraction of the move at first contact
+    public double time;
+
+    // Unit normal of the surface at the contact, pointing towards the circle
+    public double normalX, normalY;
+
+    /**
+     * Sweeps a circle against a box with square corners. The circle touches
+     * the box's faces and rounds its corners, so the contact is exact all round.
+     *
+     * @param x Circle centre at the start of the move
+     * @param y Circle centre at the start of the move
+     * @param dx The move
+     * @param dy The move
+     * @param radius Circle radius
+     * @return true if the circle touches the box during the move
+     */
+    public boolean againstBox(double x, double y, double dx, double dy, double radius,
+                              double left, double top, double right, double bottom) {
+        // Slabs of the box grown by the radius
+        double enterX, exitX, enterY, exitY;
+        if (dx != 0) {
+            double t1 = (left - radius - x) / dx;
+            double t2 = (right + radius - x) / dx;
+            enterX = Math.min(t1, t2);
+            exitX = Math.max(t1, t2);
+        } else if (x > left - radius && x < right + radius) {
+            enterX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        } else {
+            return false;
+        }
+        if (dy != 0) {
+            double t1 = (top - radius - y) / dy;
+            double t2 = (bottom + radius - y) / dy;
+            enterY = Math.min(t1, t2);
+            exitY = Math.max(t1, t2);
+        } else if (y > top - radius && y < bottom + radius) {
+            enterY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        } else {
+            return false;
+        }
+
+        double enter = Math.max(enterX, enterY);
+        double exit = Math.min(exitX, exitY);
+        if (enter > exit || enter > 1 || exit < 0) return false;
+        if (enter < 0) {
+            // Starts inside the grown box; only a corner can still be ahead of it
+            if ((x >= left && x <= right) || (y >= top && y <= bottom)) return false;
+            return againstPoint(x, y, dx, dy, radius, x < left ? left : right, y < top ? top : bottom);
+        }
+
+        // Where the centre is when it reaches the grown box
+        double hx = x + dx * enter;
+        double hy = y + dy * enter;
+        boolean besideX = hx >= left && hx <= right;
+        boolean besideY = hy >= top && hy <= bottom;
+
+        if (besideX || besideY) {
+            // Flat face
+            time = enter;
+            if (enterX > enterY) {
+                normalX = dx > 0 ? -1 : 1;
+                normalY = 0;
+            } else {
+                normalX = 0;
+                normalY = dy > 0 ? -1 : 1;
+            }
+            return true;
+        }
+
+        // Past a face edge, so it can only touch the nearest corner
+        double cx = hx < left ? left : right;
+        double cy = hy < top ? top : bottom;
+        return againstPoint(x, y, dx, dy, radius, cx, cy);
+    }
+
+    /**
+     * Sweeps a circle against a fixed circle, such as the end of a rim.
+     */
+    public boolean againstCircle(double x, double y, double dx, double dy, double radius,
+                                 double cx, double cy, double cRadius) {
+        return againstPoint(x, y, dx, dy, radius + cRadius, cx, cy);
+    }
+
+    /**
+     * True if a circle already overlaps a box, with the way out of it in
+     * normalX and normalY and the depth in time.
+     */
+    public boolean overlapsBox(double x, double y, double radius,
+                               double left, double top, double right, double bottom) {
+        double px = Math.max(left, Math.min(x, right));
+        double py = Math.max(top, Math.min(y, bottom));
+        double ox = x - px;
+        double oy = y - py;
+        double d2 = ox * ox + oy * oy;
+        if (d2 >= radius * radius) return false;
+
+        if (d2 > 0) {
+            double d = Math.sqrt(d2);
+            normalX = ox / d;
+            normalY = oy / d;
+            time = radius - d;
+            return true;
+        }
+
+        // Centre inside the box: leave through the nearest face
+        double toLeft = x - left, toRight = right - x, toTop = y - top, toBottom = bottom - y;
+        double min = Math.min(Math.min(toLeft, toRight), Math.min(toTop, toBottom));
+        normalX = min == toLeft ? -1 : min == toRight ? 1 : 0;
+        normalY = normalX != 0 ? 0 : min == toTop ? -1 : 1;
+        time = min + radius;
+        return true;
+    }
+
+    // Sweeps a point against a circle of the given radius around (cx, cy)
+    private boolean againstPoint(double x, double y, double dx, double dy, double radius, double cx, double cy) {
+        double fx = x - cx;
+        double fy = y - cy;
+        double a = dx * dx + dy * dy;
+        double b = 2 * (fx * dx + fy * dy);
+        double c = fx * fx + fy * fy - radius * radius;
+        if (a == 0 || b >= 0) return false;
+
+        double disc = b * b - 4 * a * c;
+        if (disc < 0) return false;
+        double t = (-b - Math.sqrt(disc)) / (2 * a);
+        if (t < 0 || t > 1) return false;
+
+        time = t;
+        normalX = (fx + dx * t) / radius;
+        normalY = (fy + dy * t) / radius;
+        return true;
+    }
+}
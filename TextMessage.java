@@ -1,15 +1,36 @@
 import greenfoot.*;
 
+/**
+ * Outlined message shown over the world, such as "Left side scores!".
+ *
+ * The text bitmap comes from OutlinedText, so a message that was shown before
+ * costs no rendering, and the world's background is never painted on. The
+ * message removes itself after the given number of frames.
+ */
 public class TextMessage extends Actor {
-    private int timer = 90;
+    private int timer;
 
-    public TextMessage(String text, int fontSize, Color color) {
-        GreenfootImage img = new GreenfootImage(text, fontSize, color, new Color(0, 0, 0, 0));
-        setImage(img);
+    /**
+     * @param text The message
+     * @param mainColor Fill color of the letters
+     * @param outlineColor Color of the outline
+     * @param size Font size
+     * @param frames How long to show the message, or 0 to keep it until it is removed
+     */
+    public TextMessage(String text, Color mainColor, Color outlineColor, int size, int frames) {
+        setImage(OutlinedText.get(text, mainColor, outlineColor, size));
+        timer = frames;
+    }
+
+    /**
+     * Adds the message with its top edge at y, centered on centerX, the same
+     * placement OutlinedText.drawCentered uses.
+     */
+    public void show(World world, int centerX, int y) {
+        world.addObject(this, centerX, y + getImage().getHeight() / 2);
     }
 
     public void act() {
-        timer--;
-        if (timer <= 0) getWorld().removeObject(this);
+        if (timer > 0 && --timer == 0) getWorld().removeObject(this);
     }
-}
+}
\ No newline at end of file
@@ -1,21 +1,19 @@
 import greenfoot.*;
 
-public class Volleyball extends Actor {
+public class Volleyball extends PhysicsActor {
     private double dx = 0;
     private double dy = 0;
     private final double GRAVITY = 0.4;
     private final double BOUNCE_DAMPING = 0.7;
     private final double AIR_RESISTANCE = 0.99;
     private final double NET_BOUNCE_STRENGTH = 1.2;
-    private int lastNetHitFrame = -10;
-    private static int frameCounter = 0;
+    private final double TAPE_BOUNCE = 0.9;
     private final int GROUND_LEVEL_OFFSET = 27;
     private final int SPIKE_PROXIMITY = 80;
     private final int SPIKE_HEIGHT = 60;
     
-    private GreenfootSound volleyballSound;
-    private GreenfootSound volleyballSmash;
-    private boolean soundEnabled = true;
+    // Reused for every net test
+    private final SweptCircle sweep = new SweptCircle();
     
     public double getVelocityX() {
         return dx;
@@ -31,26 +29,14 @@ public class Volleyball extends Actor {
     }
 
     public void playSmashSound() {
-        GreenfootSound smash = new GreenfootSound("volleyball_smash.wav");
-        smash.play();
+        SoundBank.play("volleyball_smash.wav");
     }
 
     public Volleyball() {
-        GreenfootImage img = new GreenfootImage("volleyball.png");
-        img.scale(80, 80);
-        setImage(img);
-        
-        try {
-            volleyballSound = new GreenfootSound("basketball_bounce.wav");
-            volleyballSmash = new GreenfootSound("volleyball_smash.wav");
-        } catch (Throwable t) {
-            System.out.println("Could not load volleyball sounds: " + t.getMessage());
-            soundEnabled = false;
-        }
+        setImage(ImageCache.get("volleyball.png", 60, 60));
     }
     
-    public void act() {
-        frameCounter++;
+    protected void step() {
         applyPhysics();
         checkCollisions();
     }
@@ -67,16 +53,81 @@ public class Volleyball extends Actor {
         if (dy < -15) dy = -15;
 
         dx *= AIR_RESISTANCE;
-        setLocation(getX() + (int)dx, getY() + (int)dy);
+        moveAgainstNet();
 
         // Keep ball from going through ceiling
         int ceilingLimit = getImage().getHeight() / 2 + 50;
-        if (getY() < ceilingLimit) {
-            setLocation(getX(), ceilingLimit);
+        if (getExactY() < ceilingLimit) {
+            setExactLocation(getExactX(), ceilingLimit);
             dy = 0;
         }
     }
     
+    // Moves one step's worth, stopping at the net and bouncing off it wherever the ball first touches
+    private void moveAgainstNet() {
+        VolleyballNet net = ((VolleyballWorld) getWorld()).getNet();
+        double radius = getImage().getWidth() / 2.0;
+        double left = net.getX() - net.getWidth() / 2.0;
+        double right = net.getX() + net.getWidth() / 2.0;
+        double top = net.getY() - net.getHeight() / 2.0;
+        double bottom = net.getY() + net.getHeight() / 2.0;
+        double x = getExactX();
+        double y = getExactY();
+
+        // Nowhere near the net this step, which is most steps
+        if (Math.max(x, x + dx) + radius < left || Math.min(x, x + dx) - radius > right
+            || Math.max(y, y + dy) + radius < top) {
+            moveBy(dx, dy);
+            return;
+        }
+
+        // Already in the net, e.g. knocked there by a player: step out first
+        if (sweep.overlapsBox(x, y, radius, left, top, right, bottom)) {
+            x += sweep.normalX * sweep.time;
+            y += sweep.normalY * sweep.time;
+            bounceOffNet(net, sweep.normalX, sweep.normalY, y);
+        }
+
+        // Split moves longer than the net is thick, so a spike can bounce off more than one face in a step
+        int pieces = (int) Math.max(1, Math.ceil(Math.hypot(dx, dy) / net.getWidth()));
+        for (int i = 0; i < pieces; i++) {
+            double mx = dx / pieces;
+            double my = dy / pieces;
+            if (sweep.againstBox(x, y, mx, my, radius, left, top, right, bottom)) {
+                // Stop where it touches; the rest of this piece is lost to the bounce
+                x += mx * sweep.time;
+                y += my * sweep.time;
+                bounceOffNet(net, sweep.normalX, sweep.normalY, y);
+            } else {
+                x += mx;
+                y += my;
+            }
+        }
+        setExactLocation(x, y);
+    }
+
+    // Reflects the velocity off the net surface with the given normal, touching it at height contactY
+    private void bounceOffNet(VolleyballNet net, double nx, double ny, double contactY) {
+        double into = dx * nx + dy * ny;
+        if (into >= 0) return;
+        int direction = (int) Math.signum(dx);
+
+        // The tape on top is springier than the mesh and poles
+        boolean tape = ny < -0.7;
+        double restitution = tape ? TAPE_BOUNCE : BOUNCE_DAMPING;
+        dx -= (1 + restitution) * into * nx;
+        dy -= (1 + restitution) * into * ny;
+        if (tape && Math.abs(dx) < 1) dx += (Greenfoot.getRandomNumber(2) - 0.5) * 2;
+
+        // Shake the net around where the ball hit it
+        if (into < -1) {
+            int netTop = net.getY() - net.getHeight() / 2;
+            int netBottom = net.getY() + net.getHeight() / 2;
+            int contact = (int) Math.round(contactY);
+            ((VolleyballWorld) getWorld()).getEffects().netShake(net.getX(), Math.max(netTop, contact - 40), Math.min(netBottom, contact + 40), direction, 16);
+        }
+    }
+    
     private void checkCollisions() {
         // Handle ball bouncing off left and right walls
         if (getX() <= 0 || getX() >= getWorld().getWidth()) {
@@ -90,56 +141,12 @@ public class Volleyball extends Actor {
         
         // Handle ball bouncing off the ground
         int groundY = getWorld().getHeight() - GROUND_LEVEL_OFFSET;
-        if (getY() >= groundY - getImage().getHeight() / 2) {
-            setLocation(getX(), groundY - getImage().getHeight() / 2);
+        if (getExactY() >= groundY - getImage().getHeight() / 2) {
+            setExactLocation(getExactX(), groundY - getImage().getHeight() / 2);
             dy = -Math.abs(dy) * BOUNCE_DAMPING;
             if (Math.abs(dy) < 1) dy = 0;
         }
         
-        // Check for collision with the net
-        VolleyballNet net = (VolleyballNet)getOneIntersectingObject(VolleyballNet.class);
-        if (net != null && frameCounter - lastNetHitFrame > 5) {
-            lastNetHitFrame = frameCounter;
-
-            int ballLeft = getX() - getImage().getWidth() / 2;
-            int ballRight = getX() + getImage().getWidth() / 2;
-            int ballTop = getY() - getImage().getHeight() / 2;
-            int ballBottom = getY() + getImage().getHeight() / 2;
-
-            int netLeft = net.getX() - net.getImage().getWidth() / 2;
-            int netRight = net.getX() + net.getImage().getWidth() / 2;
-            int netTop = net.getY() - net.getImage().getHeight() / 2;
-            int netBottom = net.getY() + net.getImage().getHeight() / 2;
-
-            // Calculate how far the ball overlaps into the net on each side
-            int overlapLeft = ballRight - netLeft;
-            int overlapRight = netRight - ballLeft;
-            int overlapTop = ballBottom - netTop;
-            int overlapBottom = netBottom - ballTop;
-
-            // Find the smallest overlap to determine collision direction
-            int minOverlap = Math.min(Math.min(overlapLeft, overlapRight), Math.min(overlapTop, overlapBottom));
-
-            // Bounce ball away from the direction of smallest overlap
-            if (minOverlap == overlapLeft) {
-                dx = -Math.abs(dx) * BOUNCE_DAMPING;
-                setLocation(netLeft - getImage().getWidth() / 2 - 2, getY());
-            } 
-            else if (minOverlap == overlapRight) {
-                dx = Math.abs(dx) * BOUNCE_DAMPING;
-                setLocation(netRight + getImage().getWidth() / 2 + 2, getY());
-            } 
-            else if (minOverlap == overlapTop) {
-                dy = -Math.abs(dy) * 0.9;
-                setLocation(getX(), netTop - getImage().getHeight() / 2 - 3);
-                if (Math.abs(dx) < 1) dx += (Greenfoot.getRandomNumber(2) - 0.5) * 2;
-            } 
-            else if (minOverlap == overlapBottom) {
-                dy = Math.abs(dy) * BOUNCE_DAMPING;
-                setLocation(getX(), netBottom + getImage().getHeight() / 2 + 2);
-            }
-        }
-
         // Check for collision with player
         VolleyballPlayer player = (VolleyballPlayer)getOneIntersectingObject(VolleyballPlayer.class);
         if (player != null) {
@@ -161,14 +168,7 @@ public class Volleyball extends Actor {
                 dy = Math.sin(spikeAngle) * spikeSpeed;
 
                 // Play smash sound for spike
-                if (soundEnabled && volleyballSmash != null) {
-                    try {
-                        
-                        volleyballSmash.play();
-                    } catch (Throwable t) {
-                        soundEnabled = false;
-                    }
-                }
+                SoundBank.play("volleyball_smash.wav");
             } 
             else {
                 // Regular hit from the side or lower part of player
@@ -179,21 +179,11 @@ public class Volleyball extends Actor {
                 dy = Math.sin(hitAngle) * hitSpeed;
 
                 // Play regular hit sound
-                if (soundEnabled && volleyballSound != null) {
-                    try {
-                        
-                        volleyballSound.play();
-                    } catch (Throwable t) {
-                        soundEnabled = false;
-                    }
-                }
+                SoundBank.play("basketball_bounce.wav");
             }
 
             // Move ball away from player to prevent it from getting stuck
-            setLocation(
-                getX() + (int)(Math.cos(Math.atan2(dy, dx)) * 10),
-                getY() + (int)(Math.sin(Math.atan2(dy, dx)) * 10)
-            );
+            moveBy(Math.cos(Math.atan2(dy, dx)) * 10, Math.sin(Math.atan2(dy, dx)) * 10);
         }
     }
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ public class VolleyballNet extends Actor {
     private int height;
     
     public VolleyballNet() {
-        netImage = new GreenfootImage("volleyball_net.png");
+        netImage = ImageCache.get("volleyball_net.png", 20, 315);
         width = netImage.getWidth();
         height = netImage.getHeight();
         setImage(netImage);
@@ -43,4 +43,12 @@ public class VolleyballNet extends Actor {
         
         return hitTop || hitLeft || hitRight;
     }
+    
+    public int getWidth() {
+        return width;
+    }
+    
+    public int getHeight() {
+        return height;
+    }
 }
\ No newline at end of file
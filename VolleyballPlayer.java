@@ -1,5 +1,5 @@
 import greenfoot.*;
-public class VolleyballPlayer extends Actor { 
+public class VolleyballPlayer extends PhysicsActor { 
     private boolean isLeftPlayer; 
     private int verticalSpeed = 0; 
     private final int JUMP_STRENGTH = -28; 
@@ -12,14 +12,12 @@ public class VolleyballPlayer extends Actor {
     private final int CPU_JUMP_COOLDOWN = 40;
     private final int SPIKE_PROXIMITY = 80;
     private final int SPIKE_HEIGHT = 60;
+    private SpriteAtlas.Pose shownPose;
      
     public VolleyballPlayer(boolean isLeft) { 
         this.isLeftPlayer = isLeft; 
         this.cpuMode = false;
-        updateImage("volleyball-receive"); 
-        if (isLeft) { 
-            getImage().mirrorHorizontally(); 
-        } 
+        updateImage(SpriteAtlas.Pose.VOLLEYBALL_RECEIVE); 
     } 
     
     // Constructor for CPU opponent
@@ -27,13 +25,10 @@ public class VolleyballPlayer extends Actor {
         this.isLeftPlayer = isLeft;
         this.cpuMode = isCPU && !isLeft;
         this.difficulty = diff;
-        updateImage("volleyball-receive");
-        if (isLeft) {
-            getImage().mirrorHorizontally();
-        }
+        updateImage(SpriteAtlas.Pose.VOLLEYBALL_RECEIVE);
     }
      
-    public void act() { 
+    protected void step() { 
         handleMovement(); 
         handleAnimation();
         handleSmash();
@@ -98,7 +93,7 @@ public class VolleyballPlayer extends Actor {
 
         ball.setVelocity(smashPowerX, smashPowerY);
         ball.playSmashSound();
-        updateImage("volleyball-spike");
+        updateImage(SpriteAtlas.Pose.VOLLEYBALL_SPIKE);
     }
 
 
@@ -288,22 +283,22 @@ public class VolleyballPlayer extends Actor {
             boolean facingBall = (isLeftPlayer && ball.getX() > getX()) ||
                                  (!isLeftPlayer && ball.getX() < getX());
             if (facingBall) {
-                updateImage("volleyball-spike");
+                updateImage(SpriteAtlas.Pose.VOLLEYBALL_SPIKE);
                 return;
             }
         }
         
         // Default to ready position when on ground
         if (isOnGround) {
-            updateImage("volleyball-receive");
+            updateImage(SpriteAtlas.Pose.VOLLEYBALL_RECEIVE);
         }
     }
      
-    private void updateImage(String imageName) { 
-        GreenfootImage img = new GreenfootImage(imageName + ".png"); 
-        img.scale(65, 65); 
-        if (isLeftPlayer) img.mirrorHorizontally(); 
-        setImage(img); 
+    // Swap to the pose's shared image; asking for the pose already shown does nothing
+    private void updateImage(SpriteAtlas.Pose pose) { 
+        if (pose == shownPose) return;
+        shownPose = pose;
+        setImage(SpriteAtlas.get(pose, isLeftPlayer)); 
     } 
      
     private void applyGravity() { 
@@ -5,6 +5,8 @@ public class VolleyballWorld extends World {
     private VolleyballPlayer player2;
     private Volleyball ball;
     private VolleyballNet net;
+    private StaticLayer statics;
+    private ParticleSystem effects;
     private ScoreBoard scoreBoard;
 
     private int player1Score = 0;
@@ -20,12 +22,11 @@ public class VolleyballWorld extends World {
     // Time to wait before accepting input on instruction screen
     private int startDelay = 30;
 
-    // Current on-screen message and its display duration
-    private int messageTimer = 0;
-    private String activeMessage = null;
+    // Current temporary message, which removes itself when its time is up
+    private TextMessage activeMessage = null;
 
-    private GreenfootSound whistleSound = new GreenfootSound("volleyball_whistle.wav");
-    private GreenfootSound endSound = new GreenfootSound("whistle_end.wav");
+    private LazyImage instructionsImage = new LazyImage("volleyball_instructions.png", 1100, 602);
+    private long createdAt = System.nanoTime();
 
     // CPU mode toggle and difficulty setting
     private boolean cpuMode = false;
@@ -46,24 +47,21 @@ public class VolleyballWorld extends World {
     }
     
     private void showInstructions() {
-        GreenfootImage instructions = new GreenfootImage("volleyball_instructions.png");
-        instructions.scale(1100, 602);
-        setBackground(instructions);
+        setBackground(instructionsImage.get());
     }
 
     private void prepareGame() {
-        whistleSound.play();
+        long setupStart = System.nanoTime();
+        SoundBank.play("volleyball_whistle.wav");
 
-        // Set up game background
-        GreenfootImage bg = new GreenfootImage("bg2.png");
-        bg.scale(1100, 600);
-        setBackground(bg);
+        instructionsImage.release();
 
-        // Create and position net
+        // Create and position net, painted into the background since it never moves
         net = new VolleyballNet();
-        GreenfootImage netImage = net.getImage();
-        netImage.scale(20, 315);
         addObject(net, getWidth() / 2, getHeight() - 180);
+        statics = new StaticLayer(ImageCache.get("bg2.png", 1100, 600));
+        statics.add(net);
+        setBackground(statics.getImage());
 
         // Create both players (left is human, right is AI or second player)
         player1 = new VolleyballPlayer(true);
@@ -77,9 +75,26 @@ public class VolleyballWorld extends World {
         // Display scoreboard
         scoreBoard = new ScoreBoard();
         addObject(scoreBoard, getWidth() / 2, 50);
+
+        // Confetti, dust and net effects, drawn over everything else
+        effects = new ParticleSystem(getWidth(), getHeight());
+        effects.addTo(this);
+        
+        AssetPreloader.reportFirstPlayableFrame("VolleyballWorld", setupStart);
     }
 
     public void act() {
+        MemoryReadout.checkToggle(this);
+
+        // Once: time from construction to the first frame shown
+        if (createdAt != 0) {
+            AssetPreloader.reportFirstFrame("VolleyballWorld", createdAt);
+            createdAt = 0;
+        }
+
+        // Work out how many physics steps the actors take this frame
+        SimulationClock.of(this).tick();
+
         // Show instruction screen until input is received or timer expires
         if (!gameStarted) {
             if (startDelay > 0) {
@@ -123,21 +138,13 @@ public class VolleyballWorld extends World {
 
         // Wait after point before serving next ball
         if (serveDelayTimer > 0) {
-            serveDelayTimer--;
-            if (serveDelayTimer == 0 && !gameOver) {
+            // Counts game steps, so the pause is the same length at any frame rate
+            serveDelayTimer -= SimulationClock.of(this).getSteps();
+            if (serveDelayTimer <= 0 && !gameOver) {
+                serveDelayTimer = 0;
                 resetBall();
             }
         }
-
-        // Hide temporary messages after delay
-        if (messageTimer > 0) {
-            messageTimer--;
-            if (messageTimer == 0) {
-                clearTextArea();
-                scoreBoard.update(player1Score, player2Score);
-                activeMessage = null;
-            }
-        }
     }
 
     private void checkScore() {
@@ -146,11 +153,12 @@ public class VolleyballWorld extends World {
         int groundY = getHeight() - 27;
 
         // Award point when ball hits ground
-        if (!pointAwarded && ball.getY() >= groundY - ball.getImage().getHeight() / 2) {
+        // The simulated position; the drawn one can lag a step behind
+        if (!pointAwarded && ball.getExactY() >= groundY - ball.getImage().getHeight() / 2) {
             pointAwarded = true;
 
             // Determine which side failed to return the ball
-            boolean leftLost = (ball.getX() < getWidth() / 2);
+            boolean leftLost = (ball.getExactX() < getWidth() / 2);
             if (leftLost) {
                 player2Score++;
                 isServingLeft = false;
@@ -160,11 +168,15 @@ public class VolleyballWorld extends World {
             }
 
             scoreBoard.update(player1Score, player2Score);
-            new GreenfootSound("volleyball_whistle.wav").play();
+            SoundBank.play("volleyball_whistle.wav");
+
+            // Dust where the ball landed and confetti over the side that won the point
+            effects.dust((int) Math.round(ball.getExactX()), groundY, 14);
+            effects.confetti(leftLost ? getWidth() * 3 / 4 : getWidth() / 4, getHeight() - 150, 60);
 
             // Check for match victory (first to 25 wins)
             if (player1Score >= 25 || player2Score >= 25) {
-                clearTextArea();
+                clearMessage();
                 endGame();
                 return;
             }
@@ -176,10 +188,10 @@ public class VolleyballWorld extends World {
 
     private void endGame() {
         gameOver = true;
-        endSound.play();
+        SoundBank.play("whistle_end.wav");
         String winner = (player1Score >= 25) ? "LEFT SIDE WINS!" : "RIGHT SIDE WINS!";
-        drawOutlinedText(winner, getWidth() / 2, 100, Color.GREEN, Color.BLACK, 50);
-        drawOutlinedText("Press ESC to return to menu or R to restart", getWidth() / 2, 170, Color.WHITE, Color.BLACK, 30);
+        new TextMessage(winner, Color.GREEN, Color.BLACK, 50, 0).show(this, getWidth() / 2, 100);
+        new TextMessage("Press ESC to return to menu or R to restart", Color.WHITE, Color.BLACK, 30, 0).show(this, getWidth() / 2, 170);
     }
 
     private void resetBall() {
@@ -199,49 +211,43 @@ public class VolleyballWorld extends World {
 
     private void spawnNewBall(int x, int y) {
         ball = new Volleyball();
-        GreenfootImage ballImage = ball.getImage();
-        ballImage.scale(60, 60);
-        ball.setImage(ballImage);
         addObject(ball, x, y);
     }
 
     // Display scoring message temporarily
     private void showPointMessage(String text) {
-        clearTextArea();
-        drawOutlinedText(text, getWidth() / 2, 200, Color.RED, Color.BLACK, 40);
-        activeMessage = text;
-        messageTimer = 70;
+        showMessage(new TextMessage(text, Color.RED, Color.BLACK, 40, 70), 200);
     }
 
     // Display serving message temporarily
     private void showServeMessage(String text) {
-        clearTextArea();
-        drawOutlinedText(text, getWidth() / 2, 100, Color.YELLOW, Color.BLACK, 32);
-        activeMessage = text;
-        messageTimer = 100;
-    }
-
-    // Draw text with dark outline for readability
-    private void drawOutlinedText(String text, int centerX, int y, Color mainColor, Color outlineColor, int size) {
-        GreenfootImage img = new GreenfootImage(text, size, mainColor, new Color(0, 0, 0, 0));
-        GreenfootImage outline = new GreenfootImage(text, size, outlineColor, new Color(0, 0, 0, 0));
-        GreenfootImage combined = new GreenfootImage(img.getWidth() + 4, img.getHeight() + 4);
-
-        // Draw outline around text
-        for (int dx = -2; dx <= 2; dx++)
-            for (int dy = -2; dy <= 2; dy++)
-                combined.drawImage(outline, dx + 2, dy + 2);
-
-        combined.drawImage(img, 2, 2);
-        int x = centerX - combined.getWidth() / 2;
-        getBackground().drawImage(combined, x, y);
-    }
-
-    // Refresh background and redraw score
-    private void clearTextArea() {
-        GreenfootImage bg = new GreenfootImage("bg2.png");
-        bg.scale(1100, 600);
-        getBackground().drawImage(bg, 0, 0);
-        scoreBoard.update(player1Score, player2Score);
+        showMessage(new TextMessage(text, Color.YELLOW, Color.BLACK, 32, 100), 100);
+    }
+
+    // Replace the current temporary message; the background is never painted on
+    private void showMessage(TextMessage message, int y) {
+        clearMessage();
+        activeMessage = message;
+        message.show(this, getWidth() / 2, y);
+    }
+
+    // Remove the temporary message if it is still showing
+    private void clearMessage() {
+        if (activeMessage != null && activeMessage.getWorld() != null) {
+            removeObject(activeMessage);
+        }
+        activeMessage = null;
+    }
+
+    public StaticLayer getStaticLayer() {
+        return statics;
+    }
+
+    public ParticleSystem getEffects() {
+        return effects;
+    }
+
+    public VolleyballNet getNet() {
+        return net;
     }
 }
\ No newline at end of file
@@ -0,0 +1,237 @@
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+/**
+ * Build-time tool that writes every image at the exact size the game displays it.
+ *
+ * Large images (backgrounds, instructions, splash screens, logos) are written
+ * one file per size. Small sprites are packed into a single atlas. Both are
+ * listed in images/baked/manifest.txt, which ImageCache reads at runtime so it
+ * can skip decoding the full-size source and scaling it down.
+ *
+ * Run from the project folder after changing an image or a display size:
+ *
+ *   javac -d /tmp/tools tools/AssetBaker.java
+ *   java -cp /tmp/tools AssetBaker
+ *
+ * The sizes below must match the ones the worlds and actors ask ImageCache for.
+ */
+public class AssetBaker {
+    private static final File SOURCE_DIR = new File("images");
+    private static final File BAKED_DIR = new File("images/baked");
+    private static final String ATLAS_FILE = "sprites.png";
+    private static final int ATLAS_WIDTH = 1024;
+    private static final int PADDING = 2;
+
+    // Same factor as ClickableImage.HOVER_SCALE
+    private static final double HOVER_SCALE = 1.1;
+
+    // Full-screen and other large images, baked one file each: path, width, height
+    private static final Object[][] SINGLES = {
+        {"blackscreen.png", 1100, 600},
+        {"production_splash.png", 1100, 600},
+        {"project_splash.png", 1100, 600},
+        {"bg.png", 1100, 600},
+        {"bg2.png", 1100, 600},
+        {"badminton_bg_normal.png", 1100, 600},
+        {"badminton_bg_celebration.png", 1100, 600},
+        {"basketball_instructions.png", 1100, 600},
+        {"badminton_instructions.png", 1100, 600},
+        {"volleyball_instructions.png", 1100, 602},
+        {"note.png", 1000, 330},
+        {"logo_3.png", 350, 230},
+        {"pick_a_sport.png", 300, 35},
+        {"pick_a_difficulty.png", 300, 30},
+    };
+
+    // Small sprites packed into the atlas: path, width, height
+    private static final Object[][] SPRITES = {
+        {"basketball.png", 42, 42},
+        {"basket.png", 80, 60},
+        {"backboard.png", 15, 140},
+        {"boundary.png", 40, 85},
+        {"hand.png", 70, 70},
+        {"volleyball.png", 60, 60},
+        {"volleyball_net.png", 20, 315},
+        {"volleyball-receive.png", 65, 65},
+        {"volleyball-spike.png", 65, 65},
+        {"badminton_net.png", 20, 280},
+        {"shuttlecock.png", 35, 35},
+        {"1p_racket.png", 80, 120},
+        {"1p_racket-forward.png", 80, 120},
+        {"2p_racket.png", 80, 120},
+        {"2p_racket-forward.png", 80, 120},
+    };
+
+    // Menu buttons, baked at both their normal and hover sizes
+    private static final Object[][] BUTTONS = {
+        {"1p_menu.png", 130, 110},
+        {"2p_menu.png", 140, 110},
+        {"note_button.png", 50, 50},
+        {"basketball_menuLogo.png", 120, 120},
+        {"volleyball_menuLogo.png", 120, 120},
+        {"badminton_menuLogo.png", 120, 120},
+        {"easy.png", 110, 35},
+        {"medium.png", 150, 35},
+        {"hard.png", 110, 35},
+        {"expert.png", 130, 35},
+        {"impossible.png", 210, 35},
+    };
+
+    private static class Sprite {
+        String source;
+        int width, height;
+        int x, y;
+        BufferedImage image;
+
+        Sprite(String source, int width, int height) {
+            this.source = source;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        BAKED_DIR.mkdirs();
+        long sourceBytes = 0;
+        long bakedBytes = 0;
+        List<String> manifest = new ArrayList<String>();
+
+        // Large images, one file per display size
+        for (Object[] s : SINGLES) {
+            String source = (String) s[0];
+            int w = (Integer) s[1];
+            int h = (Integer) s[2];
+            String file = bakedName(source, w, h);
+            File out = new File(BAKED_DIR, file);
+            ImageIO.write(scale(read(source), w, h), "png", out);
+
+            sourceBytes += new File(SOURCE_DIR, source).length();
+            bakedBytes += out.length();
+            manifest.add(source + "@" + w + "x" + h + "=" + file);
+        }
+
+        // Small sprites, packed into one atlas
+        List<Sprite> sprites = new ArrayList<Sprite>();
+        for (Object[] s : SPRITES) {
+            sprites.add(new Sprite((String) s[0], (Integer) s[1], (Integer) s[2]));
+        }
+        for (Object[] b : BUTTONS) {
+            int w = (Integer) b[1];
+            int h = (Integer) b[2];
+            sprites.add(new Sprite((String) b[0], w, h));
+            sprites.add(new Sprite((String) b[0], (int)(w * HOVER_SCALE), (int)(h * HOVER_SCALE)));
+        }
+        List<String> seen = new ArrayList<String>();
+        for (Sprite s : sprites) {
+            s.image = scale(read(s.source), s.width, s.height);
+            if (!seen.contains(s.source)) {
+                seen.add(s.source);
+                sourceBytes += new File(SOURCE_DIR, s.source).length();
+            }
+        }
+
+        int atlasHeight = pack(sprites);
+        BufferedImage atlas = new BufferedImage(ATLAS_WIDTH, atlasHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = atlas.createGraphics();
+        for (Sprite s : sprites) {
+            g.drawImage(s.image, s.x, s.y, null);
+            manifest.add(s.source + "@" + s.width + "x" + s.height + "=" + ATLAS_FILE + ":" + s.x + "," + s.y);
+        }
+        g.dispose();
+        File atlasOut = new File(BAKED_DIR, ATLAS_FILE);
+        ImageIO.write(atlas, "png", atlasOut);
+        bakedBytes += atlasOut.length();
+
+        Collections.sort(manifest);
+        try (PrintWriter writer = new PrintWriter(new File(BAKED_DIR, "manifest.txt"), "UTF-8")) {
+            writer.println("# Generated by tools/AssetBaker.java, do not edit.");
+            writer.println("# source@widthxheight=file or source@widthxheight=atlas:x,y");
+            for (String line : manifest) writer.println(line);
+        }
+
+        System.out.println("Baked " + SINGLES.length + " images and " + sprites.size() + " sprites ("
+            + ATLAS_WIDTH + "x" + atlasHeight + " atlas)");
+        System.out.println("Source PNGs: " + (sourceBytes / 1024) + " KB, baked PNGs: " + (bakedBytes / 1024) + " KB");
+    }
+
+    // Shelf packing, tallest sprites first; returns the atlas height used
+    private static int pack(List<Sprite> sprites) {
+        List<Sprite> order = new ArrayList<Sprite>(sprites);
+        Collections.sort(order, new Comparator<Sprite>() {
+            public int compare(Sprite a, Sprite b) {
+                return b.height - a.height;
+            }
+        });
+
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (Sprite s : order) {
+            if (x + s.width > ATLAS_WIDTH) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            s.x = x;
+            s.y = y;
+            x += s.width + PADDING;
+            shelfHeight = Math.max(shelfHeight, s.height);
+        }
+        return y + shelfHeight;
+    }
+
+    private static BufferedImage read(String source) throws Exception {
+        BufferedImage img = ImageIO.read(new File(SOURCE_DIR, source));
+        if (img == null) throw new IllegalArgumentException("Cannot decode " + source);
+        return img;
+    }
+
+    // Halve the image until it is close to the target, then finish with one bilinear pass
+    private static BufferedImage scale(BufferedImage img, int width, int height) {
+        BufferedImage current = toArgb(img);
+        int w = current.getWidth();
+        int h = current.getHeight();
+        while (w / 2 >= width && h / 2 >= height) {
+            w /= 2;
+            h /= 2;
+            current = resize(current, w, h);
+        }
+        if (w != width || h != height) {
+            current = resize(current, width, height);
+        }
+        return current;
+    }
+
+    private static BufferedImage resize(BufferedImage img, int width, int height) {
+        BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(img, 0, 0, width, height, null);
+        g.dispose();
+        return out;
+    }
+
+    private static BufferedImage toArgb(BufferedImage img) {
+        if (img.getType() == BufferedImage.TYPE_INT_ARGB) return img;
+        BufferedImage out = new BufferedImage(img.getWidth(), img.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        g.drawImage(img, 0, 0, null);
+        g.dispose();
+        return out;
+    }
+
+    private static String bakedName(String source, int width, int height) {
+        String base = source.substring(0, source.lastIndexOf('.'));
+        return base + "_" + width + "x" + height + ".png";
+    }
+}
@@ -0,0 +1,151 @@
+import greenfoot.GreenfootImage;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.BufferedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Build-time tool that bundles images/ and sounds/ into assets.pack, the single
+ * memory-mapped file read by AssetPack at runtime.
+ *
+ * It times the game's own loading code, so it is compiled with the game classes
+ * and Greenfoot's jar. Run from the project folder (after AssetBaker, so the
+ * baked images are included):
+ *
+ *   javac -cp greenfoot.jar -d /tmp/tools tools/AssetPacker.java AssetPack.java
+ *   java -cp greenfoot.jar:/tmp/tools AssetPacker
+ *
+ * With --compare it packs nothing and instead times decoding every packed image
+ * through ImageCache's two paths: new GreenfootImage() on the loose file, and
+ * AssetPack.decode() on the mapped pack. It prints the first round, which is
+ * the closest to a start-up, and the best of a few. For a true cold start, time
+ * one side per fresh JVM with the OS file cache dropped in between:
+ *
+ *   sync; echo 3 > /proc/sys/vm/drop_caches
+ *   java -cp greenfoot.jar:/tmp/tools AssetPacker --compare loose
+ *   sync; echo 3 > /proc/sys/vm/drop_caches
+ *   java -cp greenfoot.jar:/tmp/tools AssetPacker --compare pack
+ *
+ * Each entry records its source file's modification time, so AssetPack can tell
+ * when a loose file has changed since the pack was built and use it instead.
+ */
+public class AssetPacker {
+    private static final String MAGIC = "RSNPACK2";
+    private static final File PACK = new File("assets.pack");
+    private static final int COMPARE_ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        List<String> paths = new ArrayList<String>();
+        collect(new File("images"), "images/", ".png", paths);
+        collect(new File("sounds"), "sounds/", ".wav", paths);
+        Collections.sort(paths);
+
+        // Timing only: writing the pack would put it in the OS file cache
+        if (args.length > 0 && args[0].equals("--compare")) {
+            compare(paths, args.length > 1 ? args[1] : null);
+            return;
+        }
+
+        // Header size decides where the first payload starts
+        long headerBytes = MAGIC.length() + 4;
+        for (String path : paths) {
+            headerBytes += 2 + path.getBytes(StandardCharsets.UTF_8).length + 8 + 4 + 8;
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(PACK)))) {
+            out.write(MAGIC.getBytes(StandardCharsets.US_ASCII));
+            out.writeInt(paths.size());
+            long offset = headerBytes;
+            for (String path : paths) {
+                byte[] name = path.getBytes(StandardCharsets.UTF_8);
+                long length = new File(path).length();
+                out.writeShort(name.length);
+                out.write(name);
+                out.writeLong(offset);
+                out.writeInt((int) length);
+                out.writeLong(new File(path).lastModified());
+                offset += length;
+            }
+            for (String path : paths) {
+                out.write(Files.readAllBytes(new File(path).toPath()));
+            }
+        }
+        System.out.println("Packed " + paths.size() + " assets into " + PACK + " (" + (PACK.length() / 1024) + " KB)");
+
+    }
+
+    private static void collect(File dir, String prefix, String extension, List<String> paths) {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+        for (File f : files) {
+            if (f.isDirectory()) {
+                collect(f, prefix + f.getName() + "/", extension, paths);
+            } else if (f.getName().endsWith(extension)) {
+                paths.add(prefix + f.getName());
+            }
+        }
+    }
+
+    // Times decoding every packed image the way the game loads it, from the loose files and from the pack
+    private static void compare(List<String> paths, String only) throws Exception {
+        List<String> images = new ArrayList<String>();
+        for (String path : paths) {
+            if (path.endsWith(".png")) images.add(path);
+        }
+
+        if (only != null) {
+            // One pass in a fresh JVM; with the OS file cache dropped first this is a cold start
+            long nanos = only.equals("pack") ? decodePacked(images) : decodeLoose(images);
+            System.out.println("First pass over " + images.size() + " images from the " + (only.equals("pack") ? "asset pack" : "loose files")
+                + ": " + (nanos / 1000000) + " ms");
+            return;
+        }
+
+        long firstLoose = 0, firstPacked = 0;
+        long bestLoose = Long.MAX_VALUE, bestPacked = Long.MAX_VALUE;
+        for (int round = 0; round < COMPARE_ROUNDS; round++) {
+            // Take turns going first, so neither side always inherits a warmed-up decoder
+            long loose, packed;
+            if (round % 2 == 0) {
+                loose = decodeLoose(images);
+                packed = decodePacked(images);
+            } else {
+                packed = decodePacked(images);
+                loose = decodeLoose(images);
+            }
+            if (round == 0) {
+                firstLoose = loose;
+                firstPacked = packed;
+            }
+            bestLoose = Math.min(bestLoose, loose);
+            bestPacked = Math.min(bestPacked, packed);
+        }
+
+        System.out.println("Decoding " + images.size() + " images, first round and best of " + COMPARE_ROUNDS + ":");
+        System.out.println("  loose files: " + (firstLoose / 1000000) + " ms, " + (bestLoose / 1000000) + " ms");
+        System.out.println("  asset pack:  " + (firstPacked / 1000000) + " ms, " + (bestPacked / 1000000) + " ms");
+    }
+
+    // ImageCache's path without a pack, which names images relative to images/
+    private static long decodeLoose(List<String> images) {
+        long start = System.nanoTime();
+        for (String path : images) {
+            new GreenfootImage(path.substring("images/".length()));
+        }
+        return System.nanoTime() - start;
+    }
+
+    // ImageCache's path with a pack: a slice of the mapping, decoded without copying
+    private static long decodePacked(List<String> images) throws Exception {
+        long start = System.nanoTime();
+        for (String path : images) {
+            if (AssetPack.decode(path) == null) throw new IllegalStateException(path + " is missing or stale in " + PACK);
+        }
+        return System.nanoTime() - start;
+    }
+}
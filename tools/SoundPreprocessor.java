@@ -0,0 +1,240 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+/**
+ * Build-time tool that prepares the sound effects in art/sounds/ for the game
+ * and writes them to sounds/.
+ *
+ * Each effect has its leading and trailing silence trimmed, is folded to mono
+ * when its two channels are practically the same, is resampled to 22050 Hz and
+ * is normalized to a common loudness. The music loop is streamed and left alone.
+ *
+ * Run from the project folder after adding or changing an effect in art/sounds/:
+ *
+ *   javac -d /tmp/tools tools/SoundPreprocessor.java
+ *   java -cp /tmp/tools SoundPreprocessor
+ */
+public class SoundPreprocessor {
+    private static final File SOURCE_DIR = new File("art/sounds");
+    private static final File OUTPUT_DIR = new File("sounds");
+
+    private static final float TARGET_RATE = 22050f;
+
+    // Anything quieter than this (-50 dBFS) at either end is treated as silence
+    private static final double SILENCE = 0.00316;
+
+    // Silence kept before the first and after the last audible sample, in seconds
+    private static final double PAD_SECONDS = 0.005;
+
+    // Loudness target (-16 dBFS RMS), limited so peaks stay under -1 dBFS
+    private static final double TARGET_RMS = 0.158;
+    private static final double PEAK_CEILING = 0.891;
+
+    // Stereo is kept only if the side signal is louder than this fraction of the mid (-20 dB)
+    private static final double STEREO_THRESHOLD = 0.1;
+
+    // Half-width of the resampling filter, in input samples
+    private static final int FILTER_TAPS = 16;
+
+    public static void main(String[] args) throws Exception {
+        File[] files = SOURCE_DIR.listFiles();
+        if (files == null) {
+            System.out.println("No " + SOURCE_DIR + " folder; run this from the project folder");
+            return;
+        }
+        Arrays.sort(files);
+
+        long before = 0;
+        long after = 0;
+        for (File source : files) {
+            if (!source.getName().endsWith(".wav")) continue;
+            File out = new File(OUTPUT_DIR, source.getName());
+            String notes = process(source, out);
+            before += source.length();
+            after += out.length();
+            System.out.println(String.format("%-26s %7d KB -> %5d KB  %s", source.getName(),
+                source.length() / 1024, out.length() / 1024, notes));
+        }
+        System.out.println(String.format("Total %d KB -> %d KB", before / 1024, after / 1024));
+    }
+
+    private static String process(File source, File out) throws Exception {
+        AudioInputStream in = AudioSystem.getAudioInputStream(source);
+        AudioFormat format = in.getFormat();
+        if (format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED || format.getSampleSizeInBits() != 16) {
+            throw new IllegalArgumentException(source + " is not 16-bit PCM");
+        }
+        byte[] bytes = readAll(in);
+        in.close();
+
+        float[][] channels = toChannels(bytes, format);
+        float rate = format.getSampleRate();
+        List<String> notes = new ArrayList<String>();
+
+        double before = channels[0].length / (double) rate;
+        channels = trim(channels, rate);
+        notes.add(String.format("%.2fs -> %.2fs", before, channels[0].length / (double) rate));
+
+        if (channels.length == 2 && isNearlyMono(channels[0], channels[1])) {
+            channels = new float[][] {mix(channels[0], channels[1])};
+            notes.add("mono");
+        } else if (channels.length == 2) {
+            notes.add("stereo kept");
+        }
+
+        if (rate != TARGET_RATE) {
+            for (int c = 0; c < channels.length; c++) {
+                channels[c] = resample(channels[c], rate, TARGET_RATE);
+            }
+            notes.add((int) rate + " -> " + (int) TARGET_RATE + " Hz");
+            rate = TARGET_RATE;
+        }
+
+        notes.add(String.format("%+.1f dB", 20 * Math.log10(normalize(channels))));
+
+        AudioFormat outFormat = new AudioFormat(rate, 16, channels.length, true, false);
+        byte[] pcm = toBytes(channels);
+        AudioInputStream result = new AudioInputStream(new ByteArrayInputStream(pcm), outFormat, channels[0].length);
+        AudioSystem.write(result, AudioFileFormat.Type.WAVE, out);
+        return String.join(", ", notes);
+    }
+
+    private static byte[] readAll(AudioInputStream in) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[64 * 1024];
+        int n;
+        while ((n = in.read(buffer)) > 0) out.write(buffer, 0, n);
+        return out.toByteArray();
+    }
+
+    private static float[][] toChannels(byte[] bytes, AudioFormat format) {
+        int count = format.getChannels();
+        int frames = bytes.length / (2 * count);
+        float[][] channels = new float[count][frames];
+        boolean bigEndian = format.isBigEndian();
+        for (int i = 0; i < frames; i++) {
+            for (int c = 0; c < count; c++) {
+                int at = (i * count + c) * 2;
+                int lo = bytes[bigEndian ? at + 1 : at] & 0xff;
+                int hi = bytes[bigEndian ? at : at + 1];
+                channels[c][i] = ((hi << 8) | lo) / 32768f;
+            }
+        }
+        return channels;
+    }
+
+    private static byte[] toBytes(float[][] channels) {
+        int count = channels.length;
+        int frames = channels[0].length;
+        byte[] bytes = new byte[frames * count * 2];
+        for (int i = 0; i < frames; i++) {
+            for (int c = 0; c < count; c++) {
+                int v = Math.round(channels[c][i] * 32767);
+                v = Math.max(-32768, Math.min(32767, v));
+                int at = (i * count + c) * 2;
+                bytes[at] = (byte) v;
+                bytes[at + 1] = (byte) (v >> 8);
+            }
+        }
+        return bytes;
+    }
+
+    // Cuts silence off both ends, keeping a short pad so attacks are not clipped
+    private static float[][] trim(float[][] channels, float rate) {
+        int frames = channels[0].length;
+        int first = frames;
+        int last = -1;
+        for (int i = 0; i < frames; i++) {
+            for (float[] ch : channels) {
+                if (Math.abs(ch[i]) > SILENCE) {
+                    first = Math.min(first, i);
+                    last = i;
+                }
+            }
+        }
+        if (last < 0) return channels;
+
+        int pad = (int) (PAD_SECONDS * rate);
+        int from = Math.max(0, first - pad);
+        int to = Math.min(frames, last + 1 + pad);
+        float[][] trimmed = new float[channels.length][];
+        for (int c = 0; c < channels.length; c++) {
+            trimmed[c] = Arrays.copyOfRange(channels[c], from, to);
+        }
+        return trimmed;
+    }
+
+    private static boolean isNearlyMono(float[] left, float[] right) {
+        double mid = 0;
+        double side = 0;
+        for (int i = 0; i < left.length; i++) {
+            double m = (left[i] + right[i]) / 2;
+            double s = (left[i] - right[i]) / 2;
+            mid += m * m;
+            side += s * s;
+        }
+        return mid == 0 || Math.sqrt(side / mid) < STEREO_THRESHOLD;
+    }
+
+    private static float[] mix(float[] left, float[] right) {
+        float[] mono = new float[left.length];
+        for (int i = 0; i < mono.length; i++) mono[i] = (left[i] + right[i]) / 2;
+        return mono;
+    }
+
+    // Windowed-sinc resampler; the cutoff follows the lower of the two rates so downsampling does not alias
+    private static float[] resample(float[] input, float fromRate, float toRate) {
+        double step = fromRate / toRate;
+        double cutoff = Math.min(1.0, toRate / fromRate);
+        int length = (int) Math.floor(input.length / step);
+        float[] output = new float[length];
+        for (int i = 0; i < length; i++) {
+            double center = i * step;
+            int start = (int) Math.floor(center) - FILTER_TAPS;
+            int end = (int) Math.floor(center) + FILTER_TAPS;
+            double sum = 0;
+            double weights = 0;
+            for (int j = start; j <= end; j++) {
+                if (j < 0 || j >= input.length) continue;
+                double x = (j - center) * cutoff;
+                double sinc = x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x);
+                double window = 0.5 + 0.5 * Math.cos(Math.PI * (j - center) / (FILTER_TAPS + 1));
+                double w = sinc * window;
+                sum += input[j] * w;
+                weights += w;
+            }
+            output[i] = (float) (weights == 0 ? 0 : sum / weights);
+        }
+        return output;
+    }
+
+    // Scales every channel to the loudness target; returns the gain applied
+    private static double normalize(float[][] channels) {
+        double square = 0;
+        double peak = 0;
+        long count = 0;
+        for (float[] ch : channels) {
+            for (float v : ch) {
+                square += v * v;
+                peak = Math.max(peak, Math.abs(v));
+                count++;
+            }
+        }
+        if (peak == 0) return 1;
+
+        double rms = Math.sqrt(square / count);
+        double gain = Math.min(TARGET_RMS / rms, PEAK_CEILING / peak);
+        for (float[] ch : channels) {
+            for (int i = 0; i < ch.length; i++) ch[i] *= gain;
+        }
+        return gain;
+    }
+}